@@ -0,0 +1,110 @@
+package com.jobtracker.benchmarks;
+
+import com.jobtracker.cluster.ClusterBus;
+import com.jobtracker.cluster.NoopClusterChannel;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.ERole;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.Role;
+import com.jobtracker.entity.User;
+import com.jobtracker.security.JwtUtils;
+import com.jobtracker.security.TokenRevocationList;
+import com.jobtracker.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * BenchmarkFixtures
+ * Builds the objects under test the way Spring would, without a context
+ */
+final class BenchmarkFixtures {
+
+    // The backend's own application.properties, so the fixtures follow its settings
+    private static final Properties APPLICATION_PROPERTIES = loadApplicationProperties();
+
+    static final String JWT_SECRET = APPLICATION_PROPERTIES.getProperty("jwt.secret");
+    static final int JWT_EXPIRATION_MS = Integer.parseInt(APPLICATION_PROPERTIES.getProperty("jwt.expiration"));
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtils jwtUtils() {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", JWT_EXPIRATION_MS);
+        ReflectionTestUtils.setField(jwtUtils, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(jwtUtils, "initMetrics");
+        return jwtUtils;
+    }
+
+    static TokenRevocationList revocationList() {
+        // A single node: revocations are not published anywhere
+        ClusterBus clusterBus = new ClusterBus();
+        ReflectionTestUtils.setField(clusterBus, "channel", new NoopClusterChannel());
+        ReflectionTestUtils.setField(clusterBus, "configuredNodeId", "benchmark");
+        ReflectionTestUtils.invokeMethod(clusterBus, "init");
+
+        TokenRevocationList revocationList = new TokenRevocationList();
+        ReflectionTestUtils.setField(revocationList, "clusterBus", clusterBus);
+        ReflectionTestUtils.invokeMethod(revocationList, "init");
+        return revocationList;
+    }
+
+    static User user() {
+        User user = new User("benchmark", "benchmark@example.com", "$2a$10$notARealHashJustForBenchmarks");
+        user.setId(42L);
+        user.setRoles(Set.of(new Role(1L, ERole.ROLE_USER), new Role(2L, ERole.ROLE_ADMIN)));
+        return user;
+    }
+
+    /**
+     * A page worth of applications with realistic field sizes
+     */
+    static List<JobApplication> jobApplications(int count) {
+        User user = user();
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+        List<JobApplication> applications = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            JobApplication application = new JobApplication();
+            application.setId(1_000_000L + i);
+            application.setCompany("Company " + i);
+            application.setRole(i % 2 == 0 ? "Backend Engineer" : "Site Reliability Engineer");
+            application.setStatus(statuses[i % statuses.length]);
+            application.setDateApplied(LocalDate.of(2024, 5, 1).plusDays(i % 30));
+            application.setHasNotes(i % 4 == 0);
+            application.setUser(user);
+            application.setCreatedAt(now);
+            application.setUpdatedAt(now);
+            application.setDeleted(false);
+            applications.add(application);
+        }
+        return applications;
+    }
+
+    static Authentication authentication() {
+        UserDetailsImpl principal = UserDetailsImpl.build(user());
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private static Properties loadApplicationProperties() {
+        try {
+            return PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("application.properties of the backend not found", e);
+        }
+    }
+}
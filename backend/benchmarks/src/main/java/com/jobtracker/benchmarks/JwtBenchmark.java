@@ -0,0 +1,101 @@
+package com.jobtracker.benchmarks;
+
+import com.jobtracker.security.JwtUtils;
+import com.jobtracker.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtBenchmark
+ * JWT work done on login (generate) and on every authenticated request
+ * (one parse plus the revocation check, against a list holding 10k
+ * revoked ids)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private Authentication authentication;
+    private String validToken;
+    private String tamperedToken;
+    private TokenRevocationList revocationList;
+
+    @Setup
+    public void setup() {
+        jwtUtils = BenchmarkFixtures.jwtUtils();
+        authentication = BenchmarkFixtures.authentication();
+        validToken = jwtUtils.generateJwtToken(authentication);
+        // Change a character in the middle of the signature so parsing succeeds but verification
+        // fails (the last one partly encodes padding bits, which verification may ignore)
+        int flip = validToken.lastIndexOf('.') + (validToken.length() - validToken.lastIndexOf('.')) / 2;
+        tamperedToken = validToken.substring(0, flip) + (validToken.charAt(flip) == 'A' ? 'B' : 'A')
+                + validToken.substring(flip + 1);
+        if (jwtUtils.validateJwtToken(tamperedToken)) {
+            throw new IllegalStateException("Tampered token still passes validation");
+        }
+
+        revocationList = BenchmarkFixtures.revocationList();
+        for (int i = 0; i < 10_000; i++) {
+            revocationList.revoke(UUID.randomUUID().toString(),
+                    new Date(System.currentTimeMillis() + (i % 15 + 1) * 60_000L));
+        }
+    }
+
+    @Benchmark
+    public String generateJwtToken() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateJwtToken() {
+        return jwtUtils.validateJwtToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedJwtToken() {
+        return jwtUtils.validateJwtToken(tamperedToken);
+    }
+
+    @Benchmark
+    public String getUserNameFromJwtToken() {
+        return jwtUtils.getUserNameFromJwtToken(validToken);
+    }
+
+    /**
+     * What AuthTokenFilter does per request
+     */
+    @Benchmark
+    public String filterPath() {
+        Claims claims = jwtUtils.parseJwtToken(validToken);
+        return claims != null && !revocationList.isRevoked(claims.getId(), claims.getExpiration())
+                ? claims.getSubject()
+                : null;
+    }
+
+    /**
+     * The filter before it parsed once: validate, then parse again for the username
+     */
+    @Benchmark
+    public String doubleParseFilterPath() {
+        return jwtUtils.validateJwtToken(validToken) ? jwtUtils.getUserNameFromJwtToken(validToken) : null;
+    }
+}
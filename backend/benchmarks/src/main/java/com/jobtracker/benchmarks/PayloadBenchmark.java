@@ -0,0 +1,123 @@
+package com.jobtracker.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.jobtracker.dto.FieldSelection;
+import com.jobtracker.dto.JobApplicationDTOs.JobApplicationResponse;
+import com.jobtracker.dto.PageDTOs.PageResponse;
+import com.jobtracker.entity.JobApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * PayloadBenchmark
+ * Cost of writing one page of GET /api/applications in each response format:
+ * Spring's Page JSON with owner fields on every row (the old response), the
+ * lean envelope as JSON, with ?fields=, gzipped, and as CBOR / Smile.
+ * Encoded sizes are printed once per page size during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadBenchmark {
+
+    private static final Set<String> SELECTED_FIELDS = Set.of("id", "company", "role", "status", "dateApplied");
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ObjectMapper smile;
+    private ObjectWriter selectedFieldsWriter;
+
+    private Page<JobApplicationResponse> springPage;
+    private PageResponse<JobApplicationResponse> leanPage;
+
+    @Setup
+    public void setup() throws IOException {
+        // Same setup as JacksonConfig
+        SimpleFilterProvider allFields = new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .setFailOnUnknownId(false);
+        json = Jackson2ObjectMapperBuilder.json().filters(allFields).build();
+        cbor = Jackson2ObjectMapperBuilder.json().filters(allFields).factory(new CBORFactory()).build();
+        smile = Jackson2ObjectMapperBuilder.json().filters(allFields).factory(new SmileFactory()).build();
+        selectedFieldsWriter = json.writer(new SimpleFilterProvider().addFilter(FieldSelection.FILTER_ID,
+                SimpleBeanPropertyFilter.filterOutAllExcept(SELECTED_FIELDS)));
+
+        List<JobApplication> applications = BenchmarkFixtures.jobApplications(pageSize);
+        PageRequest pageRequest = PageRequest.of(0, pageSize);
+        springPage = new PageImpl<>(applications.stream().map(JobApplicationResponse::new).toList(),
+                pageRequest, pageSize * 10L);
+        leanPage = new PageResponse<>(new PageImpl<>(
+                applications.stream().map(application -> new JobApplicationResponse(application, false)).toList(),
+                pageRequest, pageSize * 10L));
+
+        System.out.printf("%n[page of %d] bytes: spring page json=%d, lean json=%d, lean json ?fields=%d, "
+                        + "lean json gzip=%d, lean cbor=%d, lean smile=%d%n",
+                pageSize, springPageJson().length, leanPageJson().length, leanPageSelectedFieldsJson().length,
+                leanPageJsonGzip().length, leanPageCbor().length, leanPageSmile().length);
+    }
+
+    @Benchmark
+    public byte[] springPageJson() throws IOException {
+        return json.writeValueAsBytes(springPage);
+    }
+
+    @Benchmark
+    public byte[] leanPageJson() throws IOException {
+        return json.writeValueAsBytes(leanPage);
+    }
+
+    @Benchmark
+    public byte[] leanPageSelectedFieldsJson() throws IOException {
+        return selectedFieldsWriter.writeValueAsBytes(leanPage);
+    }
+
+    @Benchmark
+    public byte[] leanPageJsonGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            json.writeValue(gzip, leanPage);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] leanPageCbor() throws IOException {
+        return cbor.writeValueAsBytes(leanPage);
+    }
+
+    @Benchmark
+    public byte[] leanPageSmile() throws IOException {
+        return smile.writeValueAsBytes(leanPage);
+    }
+}
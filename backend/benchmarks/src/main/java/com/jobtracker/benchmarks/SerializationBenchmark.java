@@ -0,0 +1,111 @@
+package com.jobtracker.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.jobtracker.dto.JobApplicationDTOs.JobApplicationResponse;
+import com.jobtracker.dto.PageDTOs.PageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SerializationBenchmark
+ * Time and allocation (gc.alloc.rate.norm, from -prof gc) to write one page
+ * of applications with reflective Jackson vs Blackbird, and an error body
+ * with a new ObjectMapper per call (the old AuthEntryPointJwt) vs the
+ * shared writer from JsonWriters. Output goes to a null stream so only
+ * serialization allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    private ObjectMapper reflective;
+    private ObjectMapper blackbird;
+    private ObjectWriter pageWriter;
+    private ObjectWriter errorWriter;
+
+    private PageResponse<JobApplicationResponse> page;
+    private Map<String, Object> errorBody;
+
+    @Setup
+    public void setup() {
+        // Same setup as JacksonConfig, with and without Blackbird
+        SimpleFilterProvider allFields = new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .setFailOnUnknownId(false);
+        reflective = Jackson2ObjectMapperBuilder.json().filters(allFields).build();
+        blackbird = Jackson2ObjectMapperBuilder.json().filters(allFields)
+                .modulesToInstall(modules -> modules.add(new BlackbirdModule())).build();
+
+        JavaType pageType = blackbird.getTypeFactory()
+                .constructParametricType(PageResponse.class, JobApplicationResponse.class);
+        pageWriter = blackbird.writerFor(pageType);
+        errorWriter = blackbird.writerFor(blackbird.getTypeFactory()
+                .constructMapType(LinkedHashMap.class, String.class, Object.class));
+
+        page = new PageResponse<>(new PageImpl<>(
+                BenchmarkFixtures.jobApplications(pageSize).stream()
+                        .map(application -> new JobApplicationResponse(application, false)).toList(),
+                PageRequest.of(0, pageSize), pageSize * 10L));
+
+        errorBody = new LinkedHashMap<>();
+        errorBody.put("status", 401);
+        errorBody.put("error", "Unauthorized");
+        errorBody.put("message", "Full authentication is required to access this resource");
+        errorBody.put("path", "/api/applications");
+    }
+
+    @Benchmark
+    public void reflectivePage() throws IOException {
+        reflective.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public void blackbirdPage() throws IOException {
+        blackbird.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public void blackbirdSharedWriterPage() throws IOException {
+        pageWriter.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public void errorBodyNewMapper() throws IOException {
+        new ObjectMapper().writeValue(OutputStream.nullOutputStream(), errorBody);
+    }
+
+    @Benchmark
+    public void errorBodySharedWriter() throws IOException {
+        errorWriter.writeValue(OutputStream.nullOutputStream(), errorBody);
+    }
+}
@@ -0,0 +1,141 @@
+package com.jobtracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.JobTrackerApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ClusterCheck
+ * Runs two backend nodes in one JVM on a shared MySQL database, joined
+ * by the loopback cluster channel, and checks that a write handled by one
+ * node is seen by the other straight away: an application both nodes have
+ * cached (PUT and PATCH), typeahead suggestions, and a logged-out access
+ * token.
+ *
+ * Exits non-zero if any check fails.
+ */
+public final class ClusterCheck {
+
+    private static final String USERNAME = "cluster_check";
+    private static final String PASSWORD = "clustercheck123";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final HttpClient client = HttpClient.newHttpClient();
+
+    private final List<String> failures = new ArrayList<>();
+
+    private ClusterCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int exitCode;
+        try (ConfigurableApplicationContext nodeA = startNode(1, "classpath:hibernate-cache.conf");
+                ConfigurableApplicationContext nodeB = startNode(2, "classpath:cluster-node-b.conf")) {
+            exitCode = new ClusterCheck().run(baseUri(nodeA), baseUri(nodeB));
+        }
+        System.exit(exitCode);
+    }
+
+    private int run(URI a, URI b) throws IOException, InterruptedException {
+        send(a, "POST", "/api/auth/signup", null, Map.of(
+                "username", USERNAME, "email", USERNAME + "@loadtest.local", "password", PASSWORD));
+        String token = send(a, "POST", "/api/auth/login", null, Map.of(
+                "username", USERNAME, "password", PASSWORD)).path("token").asText();
+
+        long id = send(a, "POST", "/api/applications", token, Map.of(
+                "company", "Google",
+                "role", "Backend Engineer",
+                "status", "APPLIED",
+                "dateApplied", LocalDate.now().toString())).path("id").asLong();
+        String path = "/api/applications/" + id;
+
+        // Both nodes now hold the application and the typeahead index
+        send(a, "GET", path, token, null);
+        send(b, "GET", path, token, null);
+        send(b, "GET", "/api/applications/suggest?prefix=goo", token, null);
+
+        send(a, "PUT", path, token, Map.of("company", "Stripe"));
+        check("PUT on A is read on B",
+                send(b, "GET", path, token, null).path("company").asText().equals("Stripe"));
+        check("Suggestions on B include the new name",
+                send(b, "GET", "/api/applications/suggest?prefix=str", token, null)
+                        .path("companies").toString().contains("Stripe"));
+
+        send(b, "PATCH", path, token, Map.of("role", "Platform Engineer"));
+        check("PATCH on B is read on A",
+                send(a, "GET", path, token, null).path("role").asText().equals("Platform Engineer"));
+
+        send(a, "POST", "/api/auth/logout", token, null);
+        check("Token logged out on A is rejected by B", status(b, path, token) == 401);
+
+        if (failures.isEmpty()) {
+            System.out.println("Cluster check passed");
+            return 0;
+        }
+        System.out.println("Cluster check FAILED:");
+        failures.forEach(failure -> System.out.println("  " + failure));
+        return 1;
+    }
+
+    private static ConfigurableApplicationContext startNode(int node, String cacheUri) {
+        List<String> args = LoadTest.backendArgs("cluster_check");
+        args.add("--cluster.channel=loopback");
+        args.add("--cluster.name=cluster-check");
+        args.add("--cluster.node-id=node" + node);
+        // Every node needs its own, as it would in separate processes
+        args.add("--sharding.node-id=" + node);
+        // One cache manager per node, as in separate processes
+        args.add("--spring.jpa.properties.hibernate.javax.cache.uri=" + cacheUri);
+        return new SpringApplication(JobTrackerApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private static URI baseUri(ConfigurableApplicationContext context) {
+        return URI.create("http://localhost:"
+                + context.getEnvironment().getRequiredProperty("local.server.port", Integer.class));
+    }
+
+    private void check(String name, boolean passed) {
+        System.out.printf("%-45s %s%n", name, passed ? "ok" : "FAILED");
+        if (!passed) {
+            failures.add(name);
+        }
+    }
+
+    private static JsonNode send(URI base, String method, String path, String token, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(base.resolve(path))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                .header("Content-Type", method.equals("PATCH") ? "application/merge-patch+json" : "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(method + " " + path + " returned " + response.statusCode()
+                    + ": " + response.body());
+        }
+        return response.body().isEmpty() ? mapper.nullNode() : mapper.readTree(response.body());
+    }
+
+    private static int status(URI base, String path, String token) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
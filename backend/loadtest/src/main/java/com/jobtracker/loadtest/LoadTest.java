@@ -0,0 +1,209 @@
+package com.jobtracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jobtracker.JobTrackerApplication;
+import com.jobtracker.sharding.ShardMap;
+import com.jobtracker.sharding.ShardRebalancer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * LoadTest
+ * End-to-end load test: boots the backend against MySQL in a container,
+ * with the schema built by its Flyway migrations, seeds it, drives a
+ * realistic request mix over HTTP and reports throughput, p50/p99/p99.9
+ * latency per operation and SQL statements per request.
+ * With -Dloadtest.shards=N it runs sharded over N databases, spreading the
+ * seeded users with the shard rebalancer.
+ *
+ * Exits non-zero (failing the Maven build) if any operation regresses past
+ * the threshold relative to baseline.json, if there is no baseline, or if
+ * requests fail.
+ */
+public final class LoadTest {
+
+    // Ignore p99 movements smaller than this; sub-millisecond percentiles are noisy
+    private static final double P99_SLACK_MS = 2.0;
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        int exitCode;
+
+        try (ConfigurableApplicationContext context = startBackend(config)) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            System.out.printf("Seeding %d users x %d applications...%n",
+                    config.users(), config.applicationsPerUser());
+            Map<String, List<Long>> ids = new Seeder(context.getBean(JdbcTemplate.class))
+                    .seed(config.users(), config.applicationsPerUser());
+
+            if (config.shards() > 1) {
+                distributeUsers(context);
+            }
+
+            System.out.printf("Running %d virtual users: %ds warmup + %ds measured...%n",
+                    config.concurrency(), config.warmupSeconds(), config.durationSeconds());
+            TrafficDriver driver = new TrafficDriver(URI.create("http://localhost:" + port), config, ids);
+            driver.run();
+
+            Map<Operation, OperationStats.Result> results = driver.results();
+            Map<String, Double> queries = queriesPerRequest(context.getBean(MeterRegistry.class));
+
+            print(results, queries);
+            writeReport(config, results, queries);
+            exitCode = checkBaseline(config, results);
+        }
+
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext startBackend(LoadTestConfig config) {
+        List<String> args = backendArgs("loadtest");
+
+        if (config.shards() > 1) {
+            args.add("--sharding.enabled=true");
+            args.add("--sharding.directory-cache-ttl-ms=100");
+            for (int i = 0; i < config.shards(); i++) {
+                args.add("--sharding.shards[" + i + "].name=shard" + i);
+                args.add("--sharding.shards[" + i + "].url=" + MySqlDatabase.url("loadtest_shard" + i));
+                args.add("--sharding.shards[" + i + "].username=" + MySqlDatabase.USERNAME);
+                args.add("--sharding.shards[" + i + "].password=" + MySqlDatabase.PASSWORD);
+            }
+        }
+
+        // Every shard is migrated at startup (FlywayConfig)
+        return new SpringApplication(JobTrackerApplication.class).run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Arguments that run the backend on a MySQL database of the shared
+     * container, migrated by Flyway, on a random port
+     */
+    static List<String> backendArgs(String database) {
+        return new ArrayList<>(List.of(
+                "--spring.datasource.url=" + MySqlDatabase.url(database),
+                "--spring.datasource.username=" + MySqlDatabase.USERNAME,
+                "--spring.datasource.password=" + MySqlDatabase.PASSWORD,
+                "--schema.migrate-on-startup=true",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.com.jobtracker=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--management.tracing.sampling.probability=0"));
+    }
+
+    /**
+     * Users were seeded on the first shard; register them in the shard map
+     * and let the rebalancer spread them over the ring
+     */
+    private static void distributeUsers(ConfigurableApplicationContext context) {
+        ShardMap shardMap = context.getBean(ShardMap.class);
+        shardMap.importUnmapped();
+        int moved = context.getBean(ShardRebalancer.class).rebalance(Integer.MAX_VALUE);
+        System.out.printf("Rebalanced %d users: %s%n", moved, shardMap.countByShard());
+    }
+
+    /**
+     * Mean SQL statements per request, per endpoint (from QueryCountFilter)
+     */
+    private static Map<String, Double> queriesPerRequest(MeterRegistry registry) {
+        Map<String, Double> queries = new TreeMap<>();
+        for (DistributionSummary summary : registry.find("http.server.requests.queries").summaries()) {
+            queries.put(summary.getId().getTag("method") + " " + summary.getId().getTag("uri"), summary.mean());
+        }
+        return queries;
+    }
+
+    private static void print(Map<Operation, OperationStats.Result> results, Map<String, Double> queries) {
+        System.out.println();
+        System.out.printf("%-8s %9s %7s %10s %9s %9s %9s%n",
+                "op", "count", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms");
+        results.forEach((operation, r) -> System.out.printf("%-8s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                operation, r.count(), r.errors(), r.throughput(), r.p50Ms(), r.p99Ms(), r.p999Ms()));
+
+        System.out.println();
+        System.out.println("SQL statements per request:");
+        queries.forEach((endpoint, mean) -> System.out.printf("  %-45s %6.2f%n", endpoint, mean));
+        System.out.println();
+    }
+
+    private static void writeReport(LoadTestConfig config, Map<Operation, OperationStats.Result> results,
+            Map<String, Double> queries) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config.toString());
+        report.put("operations", results);
+        report.put("queriesPerRequest", queries);
+
+        Files.createDirectories(config.report().toAbsolutePath().getParent());
+        mapper.writeValue(config.report().toFile(), report);
+        System.out.println("Report written to " + config.report());
+    }
+
+    /**
+     * @return process exit code: 0 if within threshold of the baseline
+     */
+    private static int checkBaseline(LoadTestConfig config, Map<Operation, OperationStats.Result> results)
+            throws IOException {
+        List<String> failures = new ArrayList<>();
+        results.forEach((operation, r) -> {
+            if (r.count() > 0 && (double) r.errors() / r.count() > MAX_ERROR_RATE) {
+                failures.add(String.format("%s: %d of %d requests failed", operation, r.errors(), r.count()));
+            }
+        });
+
+        if (config.updateBaseline()) {
+            mapper.writeValue(config.baseline().toFile(), results);
+            System.out.println("Baseline written to " + config.baseline());
+        } else if (!Files.exists(config.baseline())) {
+            failures.add("No baseline at " + config.baseline()
+                    + "; record one with -Dloadtest.updateBaseline=true and commit it");
+        } else {
+            JsonNode baseline = mapper.readTree(config.baseline().toFile());
+            results.forEach((operation, r) -> {
+                JsonNode base = baseline.get(operation.name());
+                if (base == null) {
+                    return;
+                }
+                double baseP99 = base.path("p99Ms").asDouble();
+                double baseThroughput = base.path("throughput").asDouble();
+                if (r.p99Ms() > Math.max(baseP99 * (1 + config.threshold()), baseP99 + P99_SLACK_MS)) {
+                    failures.add(String.format("%s: p99 %.2f ms vs baseline %.2f ms", operation, r.p99Ms(), baseP99));
+                }
+                if (r.throughput() < baseThroughput * (1 - config.threshold())) {
+                    failures.add(String.format("%s: %.1f req/s vs baseline %.1f req/s",
+                            operation, r.throughput(), baseThroughput));
+                }
+            });
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("Load test passed");
+            return 0;
+        }
+        System.out.println("Load test FAILED:");
+        failures.forEach(failure -> System.out.println("  " + failure));
+        return 1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.jobtracker.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * LoadTestConfig
+ * Load test settings, read from -Dloadtest.* system properties
+ */
+record LoadTestConfig(
+        int users,
+        int applicationsPerUser,
+        int concurrency,
+        int warmupSeconds,
+        int durationSeconds,
+        int shards,
+        double threshold,
+        boolean updateBaseline,
+        Path baseline,
+        Path report) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.users", 100),
+                Integer.getInteger("loadtest.applicationsPerUser", 50),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Integer.getInteger("loadtest.warmupSeconds", 10),
+                Integer.getInteger("loadtest.durationSeconds", 30),
+                Integer.getInteger("loadtest.shards", 1),
+                Double.parseDouble(System.getProperty("loadtest.threshold", "0.20")),
+                Boolean.getBoolean("loadtest.updateBaseline"),
+                Path.of(System.getProperty("loadtest.baseline", "baseline.json")),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json")));
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobtracker.loadtest;
+
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * MySqlDatabase
+ * One MySQL server in a container (Testcontainers), shared by every backend
+ * node and shard of a run. Each database on it is created on first
+ * connect and migrated by the backend's own Flyway migrations, as in
+ * production. The container is removed when the JVM exits.
+ */
+final class MySqlDatabase {
+
+    static final String USERNAME = "root";
+    static final String PASSWORD = "loadtest";
+
+    private static MySQLContainer<?> container;
+
+    private MySqlDatabase() {
+    }
+
+    /**
+     * JDBC URL of a database on the shared server, starting it on first use
+     */
+    static synchronized String url(String database) {
+        if (container == null) {
+            container = new MySQLContainer<>(DockerImageName.parse(System.getProperty("loadtest.mysqlImage", "mysql:8.0")))
+                    .withUsername(USERNAME)
+                    .withPassword(PASSWORD);
+            container.start();
+        }
+        return "jdbc:mysql://" + container.getHost() + ":" + container.getMappedPort(MySQLContainer.MYSQL_PORT)
+                + "/" + database + "?createDatabaseIfNotExist=true";
+    }
+}
@@ -0,0 +1,48 @@
+package com.jobtracker.loadtest;
+
+/**
+ * Operation
+ * The request types in the traffic mix, with their relative weights
+ * (roughly what one dashboard session produces)
+ */
+enum Operation {
+    LOGIN(5),
+    DASHBOARD(30),
+    LIST(10),
+    SEARCH(10),
+    FILTER(10),
+    STATS(5),
+    CREATE(8),
+    UPDATE(8),
+    DELETE(4);
+
+    private static final int TOTAL_WEIGHT;
+
+    static {
+        int total = 0;
+        for (Operation operation : values()) {
+            total += operation.weight;
+        }
+        TOTAL_WEIGHT = total;
+    }
+
+    private final int weight;
+
+    Operation(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Pick an operation for a uniform random number in [0, 1)
+     */
+    static Operation pick(double random) {
+        int target = (int) (random * TOTAL_WEIGHT);
+        for (Operation operation : values()) {
+            target -= operation.weight;
+            if (target < 0) {
+                return operation;
+            }
+        }
+        return LIST;
+    }
+}
@@ -0,0 +1,52 @@
+package com.jobtracker.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OperationStats
+ * Latency histogram and error count for one operation (thread-safe)
+ */
+class OperationStats {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Recorder recorder = new Recorder(MAX_LATENCY_NANOS, 3);
+    private final AtomicLong errors = new AtomicLong();
+
+    void record(long latencyNanos, boolean ok) {
+        recorder.recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+        if (!ok) {
+            errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drop everything recorded so far (end of warmup)
+     */
+    void reset() {
+        recorder.reset();
+        errors.set(0);
+    }
+
+    Result result(double seconds) {
+        Histogram histogram = recorder.getIntervalHistogram();
+        return new Result(
+                histogram.getTotalCount(),
+                errors.get(),
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    record Result(long count, long errors, double throughput, double p50Ms, double p99Ms, double p999Ms) {
+    }
+}
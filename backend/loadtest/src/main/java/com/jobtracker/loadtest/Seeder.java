@@ -0,0 +1,122 @@
+package com.jobtracker.loadtest;
+
+import com.jobtracker.entity.ApplicationStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeder
+ * Fills the test database with users and job applications via JDBC batches
+ * Every user gets the same password, so it is hashed only once
+ */
+class Seeder {
+
+    static final String PASSWORD = "loadtest123";
+
+    static final String[] COMPANIES = {
+            "Google", "Amazon", "Microsoft", "Apple", "Netflix", "Stripe", "Shopify", "Atlassian",
+            "Spotify", "Uber", "Airbnb", "Datadog", "Cloudflare", "GitLab", "Twilio", "Oracle" };
+
+    static final String[] ROLES = {
+            "Backend Engineer", "Frontend Engineer", "Full Stack Developer", "Data Engineer",
+            "Site Reliability Engineer", "Engineering Manager", "QA Engineer", "Platform Engineer" };
+
+    static final String NOTES = "Referral from a friend, follow up after two weeks.";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbc;
+    private final Random random = new Random(42);
+
+    Seeder(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * @return application ids per username, for update/delete traffic
+     */
+    Map<String, List<Long>> seed(int users, int applicationsPerUser) {
+        // The roles themselves come with the schema (V1)
+        Long roleId = jdbc.queryForObject("SELECT id FROM roles WHERE name = 'ROLE_USER'", Long.class);
+
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // Ids are normally generated by the application (ShardSafeIdGenerator), so assign them here
+        List<Object[]> userRows = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            userRows.add(new Object[] { u + 1L, username(u), username(u) + "@loadtest.local", hash, now, now });
+        }
+        jdbc.batchUpdate("INSERT INTO users (id, username, email, password, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", userRows, BATCH_SIZE, (ps, row) -> {
+                    for (int i = 0; i < row.length; i++) {
+                        ps.setObject(i + 1, row[i]);
+                    }
+                });
+        jdbc.update("INSERT INTO user_roles (user_id, role_id) SELECT id, ? FROM users", roleId);
+
+        Map<String, Long> userIds = new HashMap<>();
+        jdbc.query("SELECT id, username FROM users",
+                rs -> { userIds.put(rs.getString("username"), rs.getLong("id")); });
+
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        long applicationId = 0;
+        for (int u = 0; u < users; u++) {
+            Long userId = userIds.get(username(u));
+            for (int a = 0; a < applicationsPerUser; a++) {
+                LocalDate applied = LocalDate.now().minusDays(random.nextInt(180));
+                rows.add(new Object[] {
+                        ++applicationId,
+                        COMPANIES[random.nextInt(COMPANIES.length)],
+                        ROLES[random.nextInt(ROLES.length)],
+                        statuses[random.nextInt(statuses.length)].name(),
+                        Date.valueOf(applied),
+                        random.nextInt(4) == 0,
+                        userId, now, now });
+                if (rows.size() == BATCH_SIZE) {
+                    insertApplications(rows);
+                    rows.clear();
+                }
+            }
+        }
+        insertApplications(rows);
+        byte[] notes = NOTES.getBytes(StandardCharsets.UTF_8);
+        jdbc.update("INSERT INTO application_texts "
+                + "(application_id, field, user_id, encoding, content, length, updated_at) "
+                + "SELECT id, 'NOTES', user_id, 'PLAIN', ?, ?, ? FROM job_applications WHERE has_notes = true",
+                notes, NOTES.length(), now);
+
+        Map<String, List<Long>> applicationIds = new HashMap<>();
+        jdbc.query("SELECT ja.id, u.username FROM job_applications ja JOIN users u ON u.id = ja.user_id",
+                rs -> {
+                    applicationIds.computeIfAbsent(rs.getString("username"), k -> new ArrayList<>())
+                            .add(rs.getLong("id"));
+                });
+        return applicationIds;
+    }
+
+    static String username(int index) {
+        return "lt_user_" + index;
+    }
+
+    private void insertApplications(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbc.batchUpdate("INSERT INTO job_applications "
+                + "(id, company, role, status, date_applied, has_notes, user_id, created_at, updated_at, deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false)", rows);
+    }
+}
@@ -0,0 +1,215 @@
+package com.jobtracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.entity.ApplicationStatus;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TrafficDriver
+ * Closed-loop load: "concurrency" virtual users, each on its own virtual
+ * thread, sending a weighted mix of operations back to back for the
+ * warmup + measurement window. Only the measurement window is reported.
+ */
+class TrafficDriver {
+
+    private final URI baseUri;
+    private final LoadTestConfig config;
+    private final Map<String, List<Long>> seededIds;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private double measuredSeconds;
+
+    TrafficDriver(URI baseUri, LoadTestConfig config, Map<String, List<Long>> seededIds) {
+        this.baseUri = baseUri;
+        this.config = config;
+        this.seededIds = seededIds;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    void run() throws InterruptedException {
+        long start = System.nanoTime();
+        long warmupEnd = start + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+        long measureStart;
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                String username = Seeder.username(i % config.users());
+                users.submit(() -> new VirtualUser(username).run(end));
+            }
+
+            TimeUnit.NANOSECONDS.sleep(warmupEnd - System.nanoTime());
+            stats.values().forEach(OperationStats::reset);
+            measureStart = System.nanoTime();
+        } // waits for every virtual user to reach the end time
+
+        measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+    }
+
+    Map<Operation, OperationStats.Result> results() {
+        Map<Operation, OperationStats.Result> results = new EnumMap<>(Operation.class);
+        stats.forEach((operation, operationStats) -> results.put(operation, operationStats.result(measuredSeconds)));
+        return results;
+    }
+
+    double measuredSeconds() {
+        return measuredSeconds;
+    }
+
+    /**
+     * One simulated browser session
+     */
+    private final class VirtualUser {
+
+        private final String username;
+        private final List<Long> existingIds;
+        private final List<Long> createdIds = new ArrayList<>();
+        private String token;
+
+        VirtualUser(String username) {
+            this.username = username;
+            this.existingIds = seededIds.getOrDefault(username, List.of());
+        }
+
+        void run(long end) {
+            login();
+            while (System.nanoTime() < end) {
+                try {
+                    execute(Operation.pick(ThreadLocalRandom.current().nextDouble()));
+                } catch (IOException e) {
+                    // already recorded as an error
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void execute(Operation operation) throws IOException, InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            switch (operation) {
+                case LOGIN -> login();
+                case DASHBOARD -> send(operation, get("/api/dashboard?page=0&size=10&sortBy=dateApplied&direction=desc"));
+                case LIST -> send(operation, get("/api/applications?page=0&size=10&sortBy=dateApplied&direction=desc"));
+                case SEARCH -> {
+                    String company = Seeder.COMPANIES[random.nextInt(Seeder.COMPANIES.length)];
+                    send(operation, get("/api/applications?keyword="
+                            + URLEncoder.encode(company.substring(0, 3), StandardCharsets.UTF_8)));
+                }
+                case FILTER -> {
+                    ApplicationStatus[] statuses = ApplicationStatus.values();
+                    send(operation, get("/api/applications?status=" + statuses[random.nextInt(statuses.length)]));
+                }
+                case STATS -> send(operation, get("/api/applications/stats"));
+                case CREATE -> create();
+                case UPDATE -> {
+                    if (existingIds.isEmpty()) {
+                        return;
+                    }
+                    Long id = existingIds.get(random.nextInt(existingIds.size()));
+                    ApplicationStatus[] statuses = ApplicationStatus.values();
+                    send(operation, authorized("/api/applications/" + id)
+                            .header("Content-Type", "application/merge-patch+json")
+                            .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                                    "{\"status\":\"" + statuses[random.nextInt(statuses.length)] + "\"}"))
+                            .build());
+                }
+                case DELETE -> {
+                    // Only delete what this session created, so sessions sharing a user don't collide
+                    if (createdIds.isEmpty()) {
+                        create();
+                        return;
+                    }
+                    Long id = createdIds.remove(createdIds.size() - 1);
+                    send(operation, authorized("/api/applications/" + id).DELETE().build());
+                }
+            }
+        }
+
+        private void login() {
+            String body = "{\"username\":\"" + username + "\",\"password\":\"" + Seeder.PASSWORD + "\"}";
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            try {
+                HttpResponse<String> response = send(Operation.LOGIN, request);
+                if (response.statusCode() == 200) {
+                    token = mapper.readTree(response.body()).path("token").asText();
+                }
+            } catch (IOException e) {
+                // already recorded as an error
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void create() throws IOException, InterruptedException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String body = mapper.writeValueAsString(Map.of(
+                    "company", Seeder.COMPANIES[random.nextInt(Seeder.COMPANIES.length)],
+                    "role", Seeder.ROLES[random.nextInt(Seeder.ROLES.length)],
+                    "status", "APPLIED",
+                    "dateApplied", LocalDate.now().toString()));
+            HttpResponse<String> response = send(Operation.CREATE, authorized("/api/applications?allowDuplicate=true")
+                    .header("Content-Type", "application/json")
+                    // As real clients do, so the idempotency store is part of the measured path
+                    .header("Idempotency-Key", UUID.randomUUID().toString())
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+            if (response.statusCode() == 200) {
+                JsonNode created = mapper.readTree(response.body());
+                createdIds.add(created.path("id").asLong());
+            }
+        }
+
+        private HttpRequest get(String path) {
+            return authorized(path).GET().build();
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token);
+        }
+
+        private HttpResponse<String> send(Operation operation, HttpRequest request)
+                throws IOException, InterruptedException {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                stats.get(operation).record(System.nanoTime() - start, response.statusCode() / 100 == 2);
+                return response;
+            } catch (IOException e) {
+                stats.get(operation).record(System.nanoTime() - start, false);
+                throw e;
+            }
+        }
+    }
+}
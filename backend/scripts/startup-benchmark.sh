@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+#
+# startup-benchmark.sh
+# Time-to-first-request and resident memory for each startup mode
+#
+# Usage: scripts/startup-benchmark.sh [jar|aot|cds|native]... (default: all that are built)
+#   jar     target/job-tracker-backend-<version>-exec.jar      (mvn package)
+#   aot     same jar with -Dspring.aot.enabled=true             (mvn -Pnative package)
+#   cds     target/cds jar + application.jsa                    (mvn -Pcds package)
+#   native  target/job-tracker-backend                          (mvn -Pnative native:compile)
+#
+# Needs the database from application.properties (or SPRING_DATASOURCE_* env) to be up.
+# RUNS (default 5) cold starts per mode; prints the median of each.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-8080}
+RUNS=${RUNS:-5}
+URL="http://localhost:${PORT}/api/test/health"
+VERSION=$(sed -n 's:^    <version>\(.*\)</version>:\1:p' pom.xml | head -1)
+NAME=job-tracker-backend-${VERSION}
+
+command_for() {
+    case "$1" in
+        jar)    [[ -f target/${NAME}-exec.jar ]] && echo "java -jar target/${NAME}-exec.jar" ;;
+        aot)    [[ -d target/spring-aot ]] && [[ -f target/${NAME}-exec.jar ]] \
+                    && echo "java -Dspring.aot.enabled=true -jar target/${NAME}-exec.jar" ;;
+        cds)    [[ -f target/cds/application.jsa ]] \
+                    && echo "java -XX:SharedArchiveFile=target/cds/application.jsa -jar target/cds/${NAME}.jar" ;;
+        native) [[ -x target/job-tracker-backend ]] && echo "target/job-tracker-backend" ;;
+    esac
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+# One cold start: prints "<ms to first 200> <rss kB>"
+measure() {
+    local start pid elapsed rss
+    start=$(now_ms)
+    $1 --server.port="${PORT}" > /dev/null 2>&1 &
+    pid=$!
+
+    until curl -sf -o /dev/null "${URL}"; do
+        if ! kill -0 "${pid}" 2> /dev/null; then
+            echo "process exited before serving a request" >&2
+            return 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(awk '/^VmRSS/ { print $2 }' "/proc/${pid}/status")
+
+    kill "${pid}"
+    wait "${pid}" 2> /dev/null || true
+    echo "${elapsed} ${rss}"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+modes=("$@")
+[[ ${#modes[@]} -eq 0 ]] && modes=(jar aot cds native)
+
+printf '%-8s %18s %12s\n' mode first-request-ms rss-mb
+for mode in "${modes[@]}"; do
+    cmd=$(command_for "${mode}" || true)
+    if [[ -z "${cmd}" ]]; then
+        printf '%-8s %s\n' "${mode}" "(not built, skipped)"
+        continue
+    fi
+
+    results=()
+    for _ in $(seq "${RUNS}"); do
+        results+=("$(measure "${cmd}")")
+    done
+
+    ms=$(printf '%s\n' "${results[@]}" | cut -d' ' -f1 | median)
+    rss=$(printf '%s\n' "${results[@]}" | cut -d' ' -f2 | median)
+    printf '%-8s %18s %12s\n' "${mode}" "${ms}" "$(( rss / 1024 ))"
+done
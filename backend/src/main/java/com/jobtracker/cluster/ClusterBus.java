@@ -0,0 +1,87 @@
+package com.jobtracker.cluster;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * ClusterBus
+ * Tells the other nodes which per-node cached data a write has changed
+ *
+ * Services publish a topic and key after their change is committed and
+ * subscribe to the same topic to drop their own copy when another node
+ * publishes it. A node never receives its own messages; it invalidates
+ * locally as before. With cluster.channel=none nothing is sent.
+ */
+@Component
+public class ClusterBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterBus.class);
+
+    @Autowired
+    private ClusterChannel channel;
+
+    @Value("${cluster.node-id:}")
+    private String configuredNodeId;
+
+    private String nodeId;
+
+    private final Map<ClusterMessage.Topic, List<Consumer<String>>> handlers =
+            new EnumMap<>(ClusterMessage.Topic.class);
+
+    @PostConstruct
+    void init() {
+        nodeId = configuredNodeId.isBlank() ? UUID.randomUUID().toString() : configuredNodeId;
+        for (ClusterMessage.Topic topic : ClusterMessage.Topic.values()) {
+            handlers.put(topic, new CopyOnWriteArrayList<>());
+        }
+        channel.subscribe(this::receive);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Tell the other nodes that data under this key has changed
+     */
+    public void publish(ClusterMessage.Topic topic, String key) {
+        try {
+            channel.publish(new ClusterMessage(nodeId, topic, key));
+        } catch (RuntimeException e) {
+            // The write itself succeeded; other nodes fall back on their cache expiry
+            logger.warn("Could not publish {} invalidation for {}: {}", topic, key, e.getMessage());
+        }
+    }
+
+    /**
+     * Run the handler with the key of every message another node publishes on the topic
+     */
+    public void subscribe(ClusterMessage.Topic topic, Consumer<String> handler) {
+        handlers.get(topic).add(handler);
+    }
+
+    private void receive(ClusterMessage message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        for (Consumer<String> handler : handlers.get(message.topic())) {
+            try {
+                handler.accept(message.key());
+            } catch (RuntimeException e) {
+                logger.warn("Handling {} invalidation for {} failed: {}",
+                        message.topic(), message.key(), e.getMessage());
+            }
+        }
+    }
+}
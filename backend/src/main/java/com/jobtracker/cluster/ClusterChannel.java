@@ -0,0 +1,24 @@
+package com.jobtracker.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * ClusterChannel
+ * Pub/sub transport between the nodes of a cluster, chosen by cluster.channel
+ *
+ * Delivery is best-effort and at-most-once: every cache invalidated through
+ * it also expires on its own, so a lost message delays a refresh but never
+ * prevents it.
+ */
+public interface ClusterChannel {
+
+    /**
+     * Send a message to every node, possibly including this one
+     */
+    void publish(ClusterMessage message);
+
+    /**
+     * Register a listener for messages from any node
+     */
+    void subscribe(Consumer<ClusterMessage> listener);
+}
@@ -0,0 +1,63 @@
+package com.jobtracker.cluster;
+
+import com.jobtracker.sharding.ShardContext;
+import com.jobtracker.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ClusterLease
+ * Lets one node at a time run a cluster-wide job, through a row per job in
+ * the job_leases table on the directory shard
+ *
+ * The holder renews its lease every time it runs the job; another node
+ * takes over once the lease has not been renewed for cluster.lease-ms,
+ * e.g. after the holder stopped. Expiry is judged by the database clock,
+ * so node clocks do not have to agree.
+ */
+@Component
+public class ClusterLease {
+
+    private static final String RENEW_SQL = "UPDATE job_leases "
+            + "SET owner = ?, expires_at = TIMESTAMPADD(MICROSECOND, ?, CURRENT_TIMESTAMP(6)) "
+            + "WHERE name = ? AND (owner = ? OR expires_at < CURRENT_TIMESTAMP(6))";
+
+    private static final String CLAIM_SQL = "INSERT INTO job_leases (name, owner, expires_at) "
+            + "VALUES (?, ?, TIMESTAMPADD(MICROSECOND, ?, CURRENT_TIMESTAMP(6)))";
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ClusterBus clusterBus;
+
+    @Value("${cluster.lease-ms:30000}")
+    private long leaseMs;
+
+    /**
+     * Take or renew the lease on a job
+     *
+     * @return true if this node holds it for the next cluster.lease-ms
+     */
+    public boolean tryAcquire(String job) {
+        String owner = clusterBus.nodeId();
+        long leaseMicros = leaseMs * 1000;
+        return ShardContext.callOn(shardRouter.directoryShard(), () -> {
+            if (jdbc.update(RENEW_SQL, owner, leaseMicros, job, owner) == 1) {
+                return true;
+            }
+            try {
+                return jdbc.update(CLAIM_SQL, job, owner, leaseMicros) == 1;
+            } catch (DuplicateKeyException e) {
+                // Held by another node
+                return false;
+            }
+        });
+    }
+}
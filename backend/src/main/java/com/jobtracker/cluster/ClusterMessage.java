@@ -0,0 +1,24 @@
+package com.jobtracker.cluster;
+
+/**
+ * ClusterMessage
+ * One invalidation sent from a node to the others
+ *
+ * @param origin node id of the sender, so a node can skip its own messages
+ * @param key    what changed, in the topic's format
+ */
+public record ClusterMessage(String origin, Topic topic, String key) {
+
+    public enum Topic {
+        // "userId:applicationId" of an application that was written
+        APPLICATION,
+        // user id whose organisation membership changed
+        MEMBERSHIP,
+        // username whose shard directory entry changed
+        SHARD_MAP,
+        // "jti@expiryMillis" of a revoked access token
+        TOKEN_REVOKED,
+        // "eventId:userId:applicationId:type" of a change for open SSE streams
+        STREAM
+    }
+}
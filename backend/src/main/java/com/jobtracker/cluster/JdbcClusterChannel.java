@@ -0,0 +1,188 @@
+package com.jobtracker.cluster;
+
+import com.jobtracker.config.SchedulingConfig;
+import com.jobtracker.sharding.ShardContext;
+import com.jobtracker.sharding.ShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * JdbcClusterChannel
+ * Channel through the cluster_messages table on the directory shard
+ * (cluster.channel=jdbc), for clusters without a message broker
+ *
+ * Published messages are queued in memory and written in one batch per
+ * poll, so publishing never touches the caller's transaction or
+ * connection. Every node reads rows past the last id it has seen; a new
+ * node starts from the current end. Rows older than
+ * cluster.jdbc.retention-seconds are deleted.
+ *
+ * Ids are handed out at insert time but rows become visible at commit, so
+ * concurrent nodes can commit a lower id after a higher one was read. Ids
+ * skipped over this way are remembered as gaps and looked up again on
+ * every poll until they show up or cluster.jdbc.gap-timeout-ms has passed
+ * (an insert that rolled back leaves a gap that never fills).
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.channel", havingValue = "jdbc")
+public class JdbcClusterChannel implements ClusterChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcClusterChannel.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    // Bound on remembered gaps; the oldest are given up first
+    private static final int MAX_GAPS = 10 * BATCH_SIZE;
+
+    private static final String SELECT_SQL = "SELECT id, origin, topic, message_key FROM cluster_messages ";
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    // Lazy: ShardRouter -> ShardMap -> ClusterBus -> this channel
+    @Autowired
+    @Lazy
+    private ShardRouter shardRouter;
+
+    @Value("${cluster.jdbc.retention-seconds:60}")
+    private long retentionSeconds;
+
+    @Value("${cluster.jdbc.gap-timeout-ms:10000}")
+    private long gapTimeoutMs;
+
+    private final Queue<ClusterMessage> outbound = new ConcurrentLinkedQueue<>();
+    private final List<Consumer<ClusterMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    // Only touched by the polling thread; -1 until the current end has been read
+    private long lastSeenId = -1;
+
+    // Ids below lastSeenId not seen yet -> when they were first missed; polling thread only
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+
+    @Override
+    public void publish(ClusterMessage message) {
+        outbound.offer(message);
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterMessage> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Write queued messages, then deliver the ones other nodes wrote
+     */
+    @Scheduled(fixedDelayString = "${cluster.jdbc.poll-ms:200}", scheduler = SchedulingConfig.CLUSTER_SCHEDULER)
+    public void poll() {
+        ShardContext.runOn(shardRouter.directoryShard(), () -> {
+            send();
+            receive();
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${cluster.jdbc.purge-ms:60000}", scheduler = SchedulingConfig.CLUSTER_SCHEDULER)
+    public void purge() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minusSeconds(retentionSeconds));
+        ShardContext.runOn(shardRouter.directoryShard(),
+                () -> jdbc.update("DELETE FROM cluster_messages WHERE created_at < ?", before));
+    }
+
+    private void send() {
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        ClusterMessage message;
+        while (rows.size() < BATCH_SIZE && (message = outbound.poll()) != null) {
+            rows.add(new Object[] { message.origin(), message.topic().name(), message.key(), now });
+        }
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate("INSERT INTO cluster_messages (origin, topic, message_key, created_at) "
+                    + "VALUES (?, ?, ?, ?)", rows);
+        }
+    }
+
+    private void receive() {
+        if (lastSeenId < 0) {
+            Long last = jdbc.queryForObject("SELECT MAX(id) FROM cluster_messages", Long.class);
+            lastSeenId = last != null ? last : 0;
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        gaps.values().removeIf(missedAt -> missedAt < now - gapTimeoutMs);
+        List<Long> missing = new ArrayList<>(gaps.keySet());
+        for (int from = 0; from < missing.size(); from += BATCH_SIZE) {
+            List<Long> chunk = missing.subList(from, Math.min(from + BATCH_SIZE, missing.size()));
+            List<ClusterMessage> messages = new ArrayList<>();
+            jdbc.query(SELECT_SQL + "WHERE id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                    rs -> read(rs, now, messages), chunk.toArray());
+            deliver(messages);
+        }
+
+        int received;
+        do {
+            List<ClusterMessage> messages = new ArrayList<>();
+            int[] rows = { 0 };
+            jdbc.query(SELECT_SQL + "WHERE id > ? ORDER BY id LIMIT ?",
+                    rs -> {
+                        read(rs, now, messages);
+                        rows[0]++;
+                    }, lastSeenId, BATCH_SIZE);
+            deliver(messages);
+            received = rows[0];
+        } while (received == BATCH_SIZE);
+    }
+
+    /**
+     * Take in one row: note the ids it skips over, and collect its message
+     */
+    private void read(ResultSet rs, long now, List<ClusterMessage> messages) throws SQLException {
+        long id = rs.getLong("id");
+        gaps.remove(id);
+        if (id > lastSeenId) {
+            for (long skipped = Math.max(lastSeenId + 1, id - MAX_GAPS); skipped < id; skipped++) {
+                gaps.put(skipped, now);
+            }
+            lastSeenId = id;
+        }
+        // Insertion order is oldest first
+        Iterator<Long> oldest = gaps.keySet().iterator();
+        while (gaps.size() > MAX_GAPS) {
+            oldest.next();
+            oldest.remove();
+        }
+
+        try {
+            messages.add(new ClusterMessage(rs.getString("origin"),
+                    ClusterMessage.Topic.valueOf(rs.getString("topic")), rs.getString("message_key")));
+        } catch (IllegalArgumentException e) {
+            // Sent by a newer version; nothing here caches what it is about
+            logger.debug("Ignoring cluster message with unknown topic {}", rs.getString("topic"));
+        }
+    }
+
+    private void deliver(List<ClusterMessage> messages) {
+        messages.forEach(message -> listeners.forEach(listener -> listener.accept(message)));
+    }
+}
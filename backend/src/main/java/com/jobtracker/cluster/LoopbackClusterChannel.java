@@ -0,0 +1,57 @@
+package com.jobtracker.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * LoopbackClusterChannel
+ * In-memory channel between application contexts in the same JVM
+ * (cluster.channel=loopback), for running several nodes in one process
+ *
+ * Contexts with the same cluster.name form a cluster. Messages are
+ * delivered synchronously on the publishing thread, so once a write has
+ * returned every other node has already seen its invalidation.
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.channel", havingValue = "loopback")
+public class LoopbackClusterChannel implements ClusterChannel {
+
+    // cluster name -> channels of the running nodes
+    private static final Map<String, List<LoopbackClusterChannel>> CLUSTERS = new ConcurrentHashMap<>();
+
+    @Value("${cluster.name:job-tracker}")
+    private String clusterName;
+
+    private final List<Consumer<ClusterMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    void join() {
+        CLUSTERS.computeIfAbsent(clusterName, name -> new CopyOnWriteArrayList<>()).add(this);
+    }
+
+    @PreDestroy
+    void leave() {
+        CLUSTERS.getOrDefault(clusterName, List.of()).remove(this);
+    }
+
+    @Override
+    public void publish(ClusterMessage message) {
+        for (LoopbackClusterChannel node : CLUSTERS.getOrDefault(clusterName, List.of())) {
+            node.listeners.forEach(listener -> listener.accept(message));
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterMessage> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,23 @@
+package com.jobtracker.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * NoopClusterChannel
+ * Channel of a single node (cluster.channel=none): there is nobody to tell
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.channel", havingValue = "none", matchIfMissing = true)
+public class NoopClusterChannel implements ClusterChannel {
+
+    @Override
+    public void publish(ClusterMessage message) {
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterMessage> listener) {
+    }
+}
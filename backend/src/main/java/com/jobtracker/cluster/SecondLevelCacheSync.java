@@ -0,0 +1,63 @@
+package com.jobtracker.cluster;
+
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.event.ApplicationChangeEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * SecondLevelCacheSync
+ * Keeps the job-applications second-level cache region coherent across nodes
+ *
+ * Hibernate updates the region of the node that made a change; every
+ * committed change is also published so the other nodes evict their copy
+ * and read the row again on next use. Rows written with plain JDBC, which
+ * Hibernate does not see, are evicted one by one with evictAfterCommit;
+ * a bulk JPQL update would invalidate the whole region on every run.
+ */
+@Component
+public class SecondLevelCacheSync {
+
+    @Autowired
+    private ClusterBus clusterBus;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void init() {
+        clusterBus.subscribe(ClusterMessage.Topic.APPLICATION, key -> entityManagerFactory.getCache()
+                .evict(JobApplication.class, Long.valueOf(key.substring(key.indexOf(':') + 1))));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChange(ApplicationChangeEvent change) {
+        clusterBus.publish(ClusterMessage.Topic.APPLICATION, change.getUserId() + ":" + change.getApplicationId());
+    }
+
+    /**
+     * Evict an application changed with plain JDBC, here and on the other
+     * nodes, once the current transaction commits (at once without one)
+     */
+    public void evictAfterCommit(Long userId, Long applicationId) {
+        Runnable evict = () -> {
+            entityManagerFactory.getCache().evict(JobApplication.class, applicationId);
+            clusterBus.publish(ClusterMessage.Topic.APPLICATION, userId + ":" + applicationId);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.jobtracker.config;
+
+import com.jobtracker.sharding.ShardRoutingDataSource;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.flywaydb.core.api.MigrationState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FlywayConfig
+ * Schema migration at startup, and a check that the database matches this build
+ *
+ * With schema.migrate-on-startup=false (migrations run by a separate deploy
+ * step) the application only validates. Either way it refuses to start if
+ * migrations are pending, failed, or were applied by a newer build.
+ * When sharded, every shard is migrated and checked.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlywayConfig.class);
+
+    @Value("${schema.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+            if (dataSource instanceof ShardRoutingDataSource shards) {
+                // Same migrations, applied to every shard
+                shards.getResolvedDataSources().forEach((shard, shardDataSource) -> {
+                    logger.info("Checking schema on shard {}", shard);
+                    migrateOrValidate(Flyway.configure()
+                            .configuration(flyway.getConfiguration())
+                            .dataSource(shardDataSource)
+                            .load());
+                });
+            } else {
+                migrateOrValidate(flyway);
+            }
+        };
+    }
+
+    private void migrateOrValidate(Flyway flyway) {
+        if (migrateOnStartup) {
+            flyway.migrate();
+        } else {
+            flyway.validate();
+        }
+        checkSchema(flyway.info());
+    }
+
+    private void checkSchema(MigrationInfoService info) {
+        List<String> problems = new ArrayList<>();
+        for (MigrationInfo migration : info.all()) {
+            MigrationState state = migration.getState();
+            if (state == MigrationState.FUTURE_SUCCESS || state == MigrationState.FUTURE_FAILED) {
+                problems.add(describe(migration) + " was applied by a newer build");
+            } else if (state.isFailed()) {
+                problems.add(describe(migration) + " failed");
+            } else if (state == MigrationState.PENDING || state == MigrationState.IGNORED) {
+                problems.add(describe(migration) + " has not been applied");
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Database schema does not match this build: "
+                    + String.join("; ", problems));
+        }
+
+        MigrationInfo current = info.current();
+        logger.info("Database schema is at version {}", current == null ? "none" : current.getVersion());
+    }
+
+    private String describe(MigrationInfo migration) {
+        return "V" + migration.getVersion() + " (" + migration.getDescription() + ")";
+    }
+}
@@ -0,0 +1,72 @@
+package com.jobtracker.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.jobtracker.dto.AuthDTOs;
+import com.jobtracker.dto.JobApplicationDTOs;
+import com.jobtracker.dto.PageDTOs;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonWriters
+ * Shared, pre-resolved writers on the application ObjectMapper
+ *
+ * Jackson builds a type's serializer the first time it is written and
+ * caches it in the mapper. Resolving the hot response types at startup
+ * moves that work off the first requests, and the error writer lets code
+ * outside Spring MVC (security entry points) reuse the same mapper instead
+ * of creating its own.
+ */
+@Component
+public class JsonWriters {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ObjectWriter errorWriter;
+
+    @PostConstruct
+    void init() {
+        TypeFactory types = objectMapper.getTypeFactory();
+        JavaType errorBody = types.constructMapType(LinkedHashMap.class, String.class, Object.class);
+        errorWriter = objectMapper.writerFor(errorBody);
+
+        List<JavaType> hotTypes = List.of(
+                types.constructParametricType(PageDTOs.PageResponse.class,
+                        JobApplicationDTOs.JobApplicationResponse.class),
+                types.constructType(JobApplicationDTOs.JobApplicationResponse.class),
+                types.constructType(JobApplicationDTOs.DashboardResponse.class),
+                types.constructType(AuthDTOs.JwtResponse.class),
+                types.constructMapType(Map.class, String.class, Long.class),
+                types.constructMapType(Map.class, String.class, Object.class));
+        // writerFor prefetches the root serializer into the mapper's shared cache
+        hotTypes.forEach(objectMapper::writerFor);
+    }
+
+    /**
+     * Write an error body straight to the response
+     */
+    public void writeError(HttpServletResponse response, int status, String error, String message,
+            String path) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status);
+        body.put("error", error);
+        body.put("message", message);
+        body.put("path", path);
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(status);
+        errorWriter.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobtracker.config;
+
+import com.jobtracker.dto.AttachmentDTOs;
+import com.jobtracker.dto.AuthDTOs;
+import com.jobtracker.dto.JobApplicationDTOs;
+import com.jobtracker.dto.OrganizationDTOs;
+import com.jobtracker.dto.PageDTOs;
+import com.jobtracker.dto.ReminderDTOs;
+import com.jobtracker.event.ApplicationChangeEvent;
+import com.jobtracker.logging.SamplingFilter;
+import com.jobtracker.metrics.QueryCountInspector;
+import com.jobtracker.sharding.ShardSafeIdGenerator;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * NativeHintsConfig
+ * Reflection and resource hints for the AOT / native-image build
+ *
+ * Controllers return ResponseEntity<?>, so AOT cannot see which DTOs get
+ * serialized; classes that Hibernate, JCache and Logback load by name
+ * from configuration are registered here too.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+@RegisterReflectionForBinding({
+        AuthDTOs.JwtResponse.class,
+        AuthDTOs.MessageResponse.class,
+        JobApplicationDTOs.JobApplicationResponse.class,
+        JobApplicationDTOs.DashboardResponse.class,
+        JobApplicationDTOs.SuggestionsResponse.class,
+        JobApplicationDTOs.DuplicateGroup.class,
+        OrganizationDTOs.OrganizationResponse.class,
+        AttachmentDTOs.AttachmentResponse.class,
+        OrganizationDTOs.MemberResponse.class,
+        ReminderDTOs.ReminderResponse.class,
+        PageDTOs.PageResponse.class,
+        ApplicationChangeEvent.class
+})
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.reflection()
+                    .registerType(QueryCountInspector.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                    .registerType(ShardSafeIdGenerator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                    .registerType(SamplingFilter.class,
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)
+                    .registerType(TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"),
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources()
+                    .registerPattern("hibernate-cache.conf")
+                    .registerPattern("db/migration/*.sql")
+                    .registerPattern("db/directory/*.sql");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.jobtracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * SchedulingConfig
+ * Thread pools for @Scheduled jobs
+ *
+ * Most jobs share taskScheduler. Jobs that other nodes or users wait on
+ * get a thread of their own, so a slow nightly job or a relay run stuck
+ * on a delivery timeout never holds them up: cross-node invalidation
+ * (clusterScheduler) and the outbox relay (outboxScheduler).
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String CLUSTER_SCHEDULER = "clusterScheduler";
+    public static final String OUTBOX_SCHEDULER = "outboxScheduler";
+
+    /**
+     * Shared by every job without a scheduler of its own (the name
+     * @Scheduled falls back to)
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        return scheduler("scheduling-", poolSize);
+    }
+
+    @Bean(CLUSTER_SCHEDULER)
+    public ThreadPoolTaskScheduler clusterScheduler() {
+        return scheduler("cluster-", 1);
+    }
+
+    @Bean(OUTBOX_SCHEDULER)
+    public ThreadPoolTaskScheduler outboxScheduler() {
+        return scheduler("outbox-", 1);
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setPoolSize(poolSize);
+        return scheduler;
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobtracker.config;
+
+import com.jobtracker.sharding.ShardRoutingDataSource;
+import com.jobtracker.sharding.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ShardingConfig
+ * One connection pool per shard behind a routing DataSource
+ *
+ * Only active with sharding.enabled=true; it then replaces the
+ * spring.datasource pool, and JPA, Flyway and JdbcTemplate all go
+ * through the router.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties shardingProperties) {
+        if (shardingProperties.getShards().isEmpty()) {
+            throw new IllegalStateException("sharding.enabled=true but no sharding.shards are configured");
+        }
+
+        Map<Object, Object> shards = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : shardingProperties.getShards()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build();
+            dataSource.setPoolName("shard-" + shard.getName());
+            dataSource.setMaximumPoolSize(shardingProperties.getPoolSize());
+            shards.put(shard.getName(), dataSource);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(shards);
+        // No shard selected (startup, unauthenticated requests): the directory shard
+        routing.setDefaultTargetDataSource(shards.get(shardingProperties.getShards().get(0).getName()));
+        routing.setLenientFallback(false);
+        return routing;
+    }
+}
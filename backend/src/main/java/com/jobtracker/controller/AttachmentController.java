@@ -0,0 +1,170 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.dto.AttachmentDTOs.AttachmentResponse;
+import com.jobtracker.entity.Attachment;
+import com.jobtracker.security.UserDetailsImpl;
+import com.jobtracker.service.AttachmentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * AttachmentController
+ * Upload, list, download and delete files attached to an application
+ *
+ * Uploads are the raw request body (not multipart), streamed to the blob
+ * store. Downloads honour single byte ranges (Range / If-Range) and, when
+ * the blob is a local file and Tomcat supports it, are handed to the
+ * container's sendfile so the bytes never pass through the JVM.
+ */
+@RestController
+@RequestMapping("/api/applications/{applicationId}/attachments")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AttachmentController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    /**
+     * GET /api/applications/{applicationId}/attachments
+     * Attachment metadata of an application
+     */
+    @GetMapping
+    public ResponseEntity<?> getAttachments(
+            @PathVariable Long applicationId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        List<AttachmentResponse> attachments = attachmentService.getAttachments(applicationId, userDetails.getId())
+                .stream()
+                .map(AttachmentResponse::new)
+                .toList();
+
+        return ResponseEntity.ok(attachments);
+    }
+
+    /**
+     * POST /api/applications/{applicationId}/attachments?name=resume.pdf
+     * Upload a file; the body is the file itself, with its Content-Type
+     */
+    @PostMapping
+    public ResponseEntity<?> uploadAttachment(
+            @PathVariable Long applicationId,
+            @RequestParam String name,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            HttpServletRequest request) throws IOException {
+        Attachment attachment = attachmentService.upload(applicationId, userDetails.getId(), name, contentType,
+                request.getContentLengthLong(), Channels.newChannel(request.getInputStream()));
+
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                        .path("/{id}").buildAndExpand(attachment.getId()).toUri())
+                .body(new AttachmentResponse(attachment));
+    }
+
+    /**
+     * GET /api/applications/{applicationId}/attachments/{attachmentId}
+     * Download an attachment, whole or one byte range (206 Partial Content)
+     */
+    @GetMapping("/{attachmentId}")
+    public void downloadAttachment(
+            @PathVariable Long applicationId,
+            @PathVariable Long attachmentId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Attachment attachment = attachmentService.getAttachment(applicationId, attachmentId, userDetails.getId());
+        long size = attachment.getSizeBytes();
+        // Content never changes under an attachment, so its hash is a strong validator
+        String etag = "\"" + attachment.getContentHash() + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=86400");
+        if (etag.equals(ifNoneMatch)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long start = 0;
+        long length = size;
+        List<HttpRange> ranges = range != null && (ifRange == null || ifRange.equals(etag))
+                ? parseRanges(range)
+                : List.of();
+        // Several ranges at once are answered with the whole file
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(size);
+                length = ranges.get(0).getRangeEnd(size) - start + 1;
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + (start + length - 1) + "/" + size);
+        }
+
+        response.setContentType(attachment.getContentType());
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(attachment.getFileName(), StandardCharsets.UTF_8).build().toString());
+        // Never let a browser render an uploaded file as something else
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        Optional<Path> file = attachmentService.localFile(attachment);
+        if (file.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        attachmentService.read(attachment, start, length, Channels.newChannel(response.getOutputStream()));
+    }
+
+    /**
+     * DELETE /api/applications/{applicationId}/attachments/{attachmentId}
+     * Delete an attachment
+     */
+    @DeleteMapping("/{attachmentId}")
+    public ResponseEntity<?> deleteAttachment(
+            @PathVariable Long applicationId,
+            @PathVariable Long attachmentId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        attachmentService.deleteAttachment(applicationId, attachmentId, userDetails.getId());
+
+        return ResponseEntity.ok(Map.of("message", "Attachment deleted successfully"));
+    }
+
+    private static List<HttpRange> parseRanges(String range) {
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            // Malformed: ignore it and send the whole file
+            return List.of();
+        }
+    }
+}
@@ -2,10 +2,17 @@ package com.jobtracker.controller;
 
 import com.jobtracker.dto.AuthDTOs.*;
 import com.jobtracker.security.JwtUtils;
+import com.jobtracker.security.TokenRevocationList;
 import com.jobtracker.security.UserDetailsImpl;
 import com.jobtracker.service.AuthService;
+import com.jobtracker.service.RefreshTokenService;
+import com.jobtracker.service.RefreshTokenService.Rotation;
+import com.jobtracker.sharding.ShardContext;
+import com.jobtracker.sharding.ShardRouter;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -25,9 +32,9 @@ import java.util.stream.Collectors;
  * AuthController
  * Day 3-4: Authentication endpoints with Swagger documentation
  * 
- * Public endpoints for login and signup
+ * Public endpoints for login, signup, token refresh and logout
  */
-@Tag(name = "Authentication", description = "Authentication endpoints for login and signup")
+@Tag(name = "Authentication", description = "Authentication endpoints for login, signup, token refresh and logout")
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -42,6 +49,15 @@ public class AuthController {
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
     /**
      * POST /api/auth/login
      * Authenticate user and return JWT token
@@ -53,31 +69,72 @@ public class AuthController {
     })
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        // Authenticate username and password
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getUsername(),
-                        loginRequest.getPassword()));
+        // Authenticate username and password (against the shard holding the user)
+        String shard = shardRouter.shardForUsername(loginRequest.getUsername());
+        Authentication authentication = ShardContext.callOn(shard,
+                () -> authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(
+                                loginRequest.getUsername(),
+                                loginRequest.getPassword())));
 
         // Set authentication in security context
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // Generate JWT token
-        String jwt = jwtUtils.generateJwtToken(authentication);
-
         // Get user details
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
-        List<String> roles = userDetails.getAuthorities().stream()
-                .map(item -> item.getAuthority())
-                .collect(Collectors.toList());
+
+        // Start a refresh token family for this login
+        String refreshToken = ShardContext.callOn(shard, () -> refreshTokenService.issue(userDetails.getId()));
 
         // Return JWT response
-        return ResponseEntity.ok(new JwtResponse(
-                jwt,
-                userDetails.getId(),
-                userDetails.getUsername(),
-                userDetails.getEmail(),
-                roles));
+        return ResponseEntity.ok(tokenResponse(userDetails, refreshToken));
+    }
+
+    /**
+     * POST /api/auth/refresh
+     * Exchange a refresh token for a new access token and refresh token
+     */
+    @Operation(summary = "Refresh access token", description = "Rotate a refresh token and issue a new access token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "New tokens issued"),
+            @ApiResponse(responseCode = "401", description = "Refresh token invalid, expired or already used")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(@Valid @RequestBody RefreshTokenRequest refreshRequest) {
+        String rawToken = refreshRequest.getRefreshToken();
+        Rotation rotation = ShardContext.callOn(
+                shardRouter.shardForUserId(RefreshTokenService.userIdOf(rawToken)),
+                () -> refreshTokenService.rotate(rawToken));
+
+        return ResponseEntity.ok(tokenResponse(UserDetailsImpl.build(rotation.user()), rotation.refreshToken()));
+    }
+
+    /**
+     * POST /api/auth/logout
+     * Revoke the current access token and the session's refresh tokens
+     */
+    @Operation(summary = "Logout", description = "Revoke the access token and refresh token of this session")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Logged out")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequest logoutRequest) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            Claims claims = jwtUtils.parseJwtToken(authorization.substring(7));
+            if (claims != null) {
+                revocationList.revoke(claims.getId(), claims.getExpiration());
+            }
+        }
+
+        if (logoutRequest != null && logoutRequest.getRefreshToken() != null) {
+            String rawToken = logoutRequest.getRefreshToken();
+            ShardContext.runOn(shardRouter.shardForUserId(RefreshTokenService.userIdOf(rawToken)),
+                    () -> refreshTokenService.revoke(rawToken));
+        }
+
+        return ResponseEntity.ok(new MessageResponse("Logged out"));
     }
 
     /**
@@ -93,7 +150,10 @@ public class AuthController {
     @PostMapping("/signup")
     public ResponseEntity<?> registerUser(@Valid @RequestBody SignupRequest signUpRequest) {
         try {
-            String message = authService.registerUser(signUpRequest);
+            // New users go where the hash ring places them
+            String message = ShardContext.callOn(
+                    shardRouter.placementFor(signUpRequest.getUsername()),
+                    () -> authService.registerUser(signUpRequest));
             return ResponseEntity.ok(new MessageResponse(message));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(new MessageResponse(e.getMessage()));
@@ -112,4 +172,19 @@ public class AuthController {
     public ResponseEntity<?> test() {
         return ResponseEntity.ok(new MessageResponse("Auth endpoints are working!"));
     }
-}
\ No newline at end of file
+
+    private JwtResponse tokenResponse(UserDetailsImpl userDetails, String refreshToken) {
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(item -> item.getAuthority())
+                .collect(Collectors.toList());
+
+        return new JwtResponse(
+                jwtUtils.generateJwtToken(userDetails.getUsername()),
+                refreshToken,
+                jwtUtils.getExpirationSeconds(),
+                userDetails.getId(),
+                userDetails.getUsername(),
+                userDetails.getEmail(),
+                roles);
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.dto.JobApplicationDTOs.DashboardResponse;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.security.UserDetailsImpl;
+import com.jobtracker.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * DashboardController
+ * Applications page and statistics in a single request
+ *
+ * Works from the authenticated user's id, so no User row is loaded
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    /**
+     * GET /api/dashboard
+     * Same paging, sorting and status filter as GET /api/applications
+     * (keyword search stays on that endpoint)
+     */
+    @GetMapping
+    public ResponseEntity<?> getDashboard(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "dateApplied") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) ApplicationStatus status) {
+        DashboardResponse dashboard = dashboardService.getDashboard(
+                userDetails.getId(), status, page, size, sortBy, direction);
+
+        return ResponseEntity.ok(dashboard);
+    }
+}
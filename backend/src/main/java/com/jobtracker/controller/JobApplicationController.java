@@ -1,19 +1,29 @@
 package com.jobtracker.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jobtracker.dto.FieldSelection;
 import com.jobtracker.dto.JobApplicationDTOs.*;
-import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.dto.PageDTOs.PageResponse;
 import com.jobtracker.entity.JobApplication;
 import com.jobtracker.entity.User;
 import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.AuthTokenFilter;
 import com.jobtracker.security.UserDetailsImpl;
+import com.jobtracker.service.ApplicationStreamService;
+import com.jobtracker.service.IdempotencyService;
+import com.jobtracker.service.IdempotencyService.Outcome;
 import com.jobtracker.service.JobApplicationService;
+import com.jobtracker.service.SuggestionService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -33,43 +43,52 @@ public class JobApplicationController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationStreamService applicationStreamService;
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     /**
      * GET /api/applications
      * Get all applications for the authenticated user
-     * Supports pagination, sorting, filtering
+     * Supports pagination, sorting, field selection (?fields=id,company,status)
+     * and any combination of filters: status (one or more), keyword,
+     * appliedFrom/appliedTo (dates) and updatedFrom/updatedTo (date-times)
      */
     @GetMapping
     public ResponseEntity<?> getAllApplications(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
+            ApplicationFilter filter,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "dateApplied") String sortBy,
             @RequestParam(defaultValue = "desc") String direction,
-            @RequestParam(required = false) ApplicationStatus status,
-            @RequestParam(required = false) String keyword) {
-        User user = userRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+            @RequestParam(required = false) String fields) {
+        // Rows leave the owner out; it is the caller
+        PageResponse<JobApplicationResponse> applications = jobApplicationService.findApplications(
+                userDetails.getId(), filter, page, size, sortBy, direction);
 
-        Page<JobApplication> applications;
-
-        if (keyword != null && !keyword.isEmpty()) {
-            // Search by keyword
-            applications = jobApplicationService.searchApplications(
-                    user, keyword, page, size, sortBy, direction);
-        } else if (status != null) {
-            // Filter by status
-            applications = jobApplicationService.getApplicationsByStatus(
-                    user, status, page, size, sortBy, direction);
-        } else {
-            // Get all applications
-            applications = jobApplicationService.getAllApplications(
-                    user, page, size, sortBy, direction);
-        }
-
-        // Convert to DTOs
-        Page<JobApplicationResponse> response = applications.map(JobApplicationResponse::new);
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(FieldSelection.apply(applications, fields));
+    }
+
+    /**
+     * GET /api/applications/suggest?prefix=goo
+     * Company and role names the user has used before, for typeahead
+     * Answered from memory; limit is capped at 20
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "8") int limit) {
+        SuggestionsResponse suggestions = suggestionService.suggest(
+                userDetails.getId(), prefix, Math.max(1, Math.min(limit, 20)));
+
+        return ResponseEntity.ok(suggestions);
     }
 
     /**
@@ -88,20 +107,42 @@ public class JobApplicationController {
         return ResponseEntity.ok(new JobApplicationResponse(application));
     }
 
+    /**
+     * GET /api/applications/duplicates
+     * The user's applications that repeat a company and role, in groups
+     */
+    @GetMapping("/duplicates")
+    public ResponseEntity<?> getDuplicates(
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        List<DuplicateGroup> groups = jobApplicationService.findDuplicates(userDetails.getId());
+
+        return ResponseEntity.ok(groups);
+    }
+
     /**
      * POST /api/applications
      * Create a new job application
+     * Responds 409 with existingId if the user already applied for the same
+     * company and role, unless allowDuplicate=true. A retry with the same
+     * Idempotency-Key gets the first response instead of a second application.
      */
     @PostMapping
     public ResponseEntity<?> createApplication(
             @Valid @RequestBody CreateJobApplicationRequest request,
+            @RequestParam(defaultValue = "false") boolean allowDuplicate,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        User user = userRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        JobApplication application = jobApplicationService.createApplication(request, user);
+        Outcome<JobApplicationResponse> outcome = idempotencyService.execute(
+                userDetails.getId(), idempotencyKey, "create?allowDuplicate=" + allowDuplicate, request,
+                JobApplicationResponse.class, () -> {
+                    User user = userRepository.findById(userDetails.getId())
+                            .orElseThrow(() -> new RuntimeException("User not found"));
+                    JobApplication application = jobApplicationService.createApplication(
+                            request, user, allowDuplicate);
+                    return new JobApplicationResponse(application);
+                });
 
-        return ResponseEntity.ok(new JobApplicationResponse(application));
+        return respond(outcome);
     }
 
     /**
@@ -121,6 +162,45 @@ public class JobApplicationController {
         return ResponseEntity.ok(new JobApplicationResponse(application));
     }
 
+    /**
+     * PATCH /api/applications/{id}
+     * Partially update an application (JSON Merge Patch)
+     * Only the fields present in the body are changed; responds 204 No Content
+     */
+    @PatchMapping(value = "/{id}", consumes = { "application/merge-patch+json", "application/json" })
+    public ResponseEntity<?> patchApplication(
+            @PathVariable Long id,
+            @RequestBody JsonNode patch,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        jobApplicationService.patchApplication(id, patch, userDetails.getId());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * POST /api/applications/{id}/merge
+     * Fold the applications in duplicateIds into this one and delete them
+     * Takes an Idempotency-Key like POST /api/applications
+     */
+    @PostMapping("/{id}/merge")
+    public ResponseEntity<?> mergeApplications(
+            @PathVariable Long id,
+            @Valid @RequestBody MergeRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        Outcome<JobApplicationResponse> outcome = idempotencyService.execute(
+                userDetails.getId(), idempotencyKey, "merge/" + id, request,
+                JobApplicationResponse.class, () -> {
+                    User user = userRepository.findById(userDetails.getId())
+                            .orElseThrow(() -> new RuntimeException("User not found"));
+                    JobApplication application = jobApplicationService.mergeApplications(
+                            id, request.getDuplicateIds(), user);
+                    return new JobApplicationResponse(application);
+                });
+
+        return respond(outcome);
+    }
+
     /**
      * DELETE /api/applications/{id}
      * Delete (soft delete) an application
@@ -151,4 +231,26 @@ public class JobApplicationController {
 
         return ResponseEntity.ok(stats);
     }
-}
\ No newline at end of file
+
+    /**
+     * GET /api/applications/stream
+     * Server-Sent Events feed of created/updated/deleted events for the user
+     * Reconnecting clients send Last-Event-ID to receive what they missed
+     * The stream ends when the access token expires or is revoked; reconnect
+     * with a fresh one.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestAttribute(AuthTokenFilter.CLAIMS_ATTRIBUTE) Claims claims,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return applicationStreamService.subscribe(
+                userDetails.getId(), claims.getId(), claims.getExpiration(), lastEventId);
+    }
+
+    private static ResponseEntity<?> respond(Outcome<?> outcome) {
+        return outcome.replayed()
+                ? ResponseEntity.ok().header(IdempotencyService.REPLAYED_HEADER, "true").body(outcome.response())
+                : ResponseEntity.ok(outcome.response());
+    }
+}
@@ -0,0 +1,186 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.dto.FieldSelection;
+import com.jobtracker.dto.JobApplicationDTOs.ApplicationFilter;
+import com.jobtracker.dto.JobApplicationDTOs.JobApplicationResponse;
+import com.jobtracker.dto.OrganizationDTOs.*;
+import com.jobtracker.dto.PageDTOs.PageResponse;
+import com.jobtracker.entity.ERole;
+import com.jobtracker.entity.Organization;
+import com.jobtracker.entity.OrganizationMember;
+import com.jobtracker.security.UserDetailsImpl;
+import com.jobtracker.service.OrganizationService;
+import com.jobtracker.service.TenantRollupService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OrganizationController
+ * Organisation (tenant) management and admin views across its members
+ *
+ * Everything except GET /api/organization and answering one's own
+ * invitations requires the caller to be an admin of their organisation
+ * (403 otherwise). Users join by accepting an invitation, never directly.
+ */
+@RestController
+@RequestMapping("/api/organization")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class OrganizationController {
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private TenantRollupService tenantRollupService;
+
+    /**
+     * POST /api/organization
+     * Create an organisation with the caller as admin (site admins only)
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> createOrganization(
+            @Valid @RequestBody CreateOrganizationRequest request,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        Organization organization = organizationService.createOrganization(
+                userDetails.getId(), userDetails.getUsername(), request.getName());
+        tenantRollupService.markDirty(userDetails.getId());
+
+        return ResponseEntity.ok(new OrganizationResponse(organization));
+    }
+
+    /**
+     * GET /api/organization
+     * The caller's organisation
+     */
+    @GetMapping
+    public ResponseEntity<?> getOrganization(
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok(new OrganizationResponse(organizationService.getOrganization(userDetails.getId())));
+    }
+
+    /**
+     * GET /api/organization/stats
+     * Counts by status across all members, from per-member rollups
+     * (a few seconds behind the latest changes)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStatistics(
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        Map<String, Long> stats = organizationService.getStatistics(userDetails.getId());
+
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * GET /api/organization/members?page=0&size=20
+     * Members by username, each with their counts by status
+     */
+    @GetMapping("/members")
+    public ResponseEntity<?> getMembers(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PageResponse<MemberResponse> members = new PageResponse<>(
+                organizationService.getMembers(userDetails.getId(), page, Math.min(size, 100))
+                        .map(MemberResponse::new));
+
+        return ResponseEntity.ok(members);
+    }
+
+    /**
+     * POST /api/organization/invitations
+     * Invite an existing user; they join once they accept. Only site admins
+     * can invite with role ADMIN.
+     */
+    @PostMapping("/invitations")
+    public ResponseEntity<?> inviteMember(
+            @Valid @RequestBody InviteMemberRequest request,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        boolean siteAdmin = userDetails.getAuthorities().stream()
+                .anyMatch(authority -> ERole.ROLE_ADMIN.name().equals(authority.getAuthority()));
+        InvitationResponse invitation = organizationService.inviteMember(userDetails.getId(), siteAdmin, request);
+
+        return ResponseEntity.ok(invitation);
+    }
+
+    /**
+     * GET /api/organization/invitations
+     * The caller's own pending invitations
+     */
+    @GetMapping("/invitations")
+    public ResponseEntity<?> getInvitations(
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        List<InvitationResponse> invitations = organizationService.getInvitations(userDetails.getId());
+
+        return ResponseEntity.ok(invitations);
+    }
+
+    /**
+     * POST /api/organization/invitations/{id}/accept
+     * Join the inviting organisation; its admins can then see the caller's applications
+     */
+    @PostMapping("/invitations/{id}/accept")
+    public ResponseEntity<?> acceptInvitation(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        OrganizationMember member = organizationService.acceptInvitation(userDetails.getId(), id);
+        tenantRollupService.markDirty(member.getUserId());
+
+        return ResponseEntity.ok(new MemberResponse(member));
+    }
+
+    /**
+     * DELETE /api/organization/invitations/{id}
+     * Decline one of the caller's invitations
+     */
+    @DeleteMapping("/invitations/{id}")
+    public ResponseEntity<?> declineInvitation(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        organizationService.declineInvitation(userDetails.getId(), id);
+
+        return ResponseEntity.ok(Map.of("message", "Invitation declined"));
+    }
+
+    /**
+     * DELETE /api/organization/members/{userId}
+     * Remove a member (their account and applications are kept)
+     */
+    @DeleteMapping("/members/{userId}")
+    public ResponseEntity<?> removeMember(
+            @PathVariable Long userId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        organizationService.removeMember(userDetails.getId(), userId);
+
+        return ResponseEntity.ok(Map.of("message", "Member removed successfully"));
+    }
+
+    /**
+     * GET /api/organization/members/{userId}/applications
+     * One page of a member's applications; takes the same filters, sorting
+     * and field selection as GET /api/applications
+     */
+    @GetMapping("/members/{userId}/applications")
+    public ResponseEntity<?> getMemberApplications(
+            @PathVariable Long userId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            ApplicationFilter filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "dateApplied") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String fields) {
+        PageResponse<JobApplicationResponse> applications = organizationService.getMemberApplications(
+                userDetails.getId(), userId, filter, page, Math.min(size, 100), sortBy, direction);
+
+        return ResponseEntity.ok(FieldSelection.apply(applications, fields));
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.dto.PageDTOs.PageResponse;
+import com.jobtracker.dto.ReminderDTOs.ReminderResponse;
+import com.jobtracker.security.UserDetailsImpl;
+import com.jobtracker.service.ReminderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * ReminderController
+ * Follow-up reminders generated for stale applications
+ *
+ * All endpoints require authentication (JWT token)
+ */
+@RestController
+@RequestMapping("/api/reminders")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ReminderController {
+
+    @Autowired
+    private ReminderService reminderService;
+
+    /**
+     * GET /api/reminders
+     * Get pending reminders for the authenticated user
+     */
+    @GetMapping
+    public ResponseEntity<?> getReminders(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        PageResponse<ReminderResponse> response = new PageResponse<>(reminderService
+                .getPendingReminders(userDetails.getId(), page, size)
+                .map(ReminderResponse::new));
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * PUT /api/reminders/{id}/dismiss
+     * Dismiss a reminder
+     */
+    @PutMapping("/{id}/dismiss")
+    public ResponseEntity<?> dismissReminder(
+            @PathVariable Long id,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        reminderService.dismissReminder(id, userDetails.getId());
+
+        return ResponseEntity.ok(Map.of("message", "Reminder dismissed"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.sharding.ShardMap;
+import com.jobtracker.sharding.ShardRebalancer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * ShardAdminController
+ * Shard map overview and rebalancing (admins only, sharded deployments only)
+ */
+@RestController
+@RequestMapping("/api/admin/shards")
+@PreAuthorize("hasRole('ADMIN')")
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardAdminController {
+
+    @Autowired
+    private ShardMap shardMap;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    /**
+     * GET /api/admin/shards
+     * Users per shard
+     */
+    @GetMapping
+    public ResponseEntity<?> getShards() {
+        return ResponseEntity.ok(Map.of("usersPerShard", shardMap.countByShard()));
+    }
+
+    /**
+     * POST /api/admin/shards/rebalance?limit=1000&dryRun=false
+     * Move users whose shard differs from their hash-ring placement
+     */
+    @PostMapping("/rebalance")
+    public ResponseEntity<?> rebalance(
+            @RequestParam(defaultValue = "1000") int limit,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        if (dryRun) {
+            return ResponseEntity.ok(Map.of("misplaced", shardRebalancer.plan(limit).size()));
+        }
+        return ResponseEntity.ok(Map.of("moved", shardRebalancer.rebalance(limit)));
+    }
+
+    /**
+     * POST /api/admin/shards/users/{userId}/move?to=shard2
+     * Move a single user to a given shard
+     */
+    @PostMapping("/users/{userId}/move")
+    public ResponseEntity<?> moveUser(@PathVariable Long userId, @RequestParam String to) {
+        shardRebalancer.moveUser(userId, to);
+        return ResponseEntity.ok(Map.of("message", "User " + userId + " moved to " + to));
+    }
+}
@@ -0,0 +1,43 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.Attachment;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AttachmentDTOs
+ * Data Transfer Objects for application attachments
+ */
+public class AttachmentDTOs {
+
+    /**
+     * AttachmentResponse - Attachment metadata sent to client (the content is downloaded separately)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AttachmentResponse {
+
+        private Long id;
+        private Long applicationId;
+        private String fileName;
+        private String contentType;
+        private long size;
+        private String sha256;
+        private LocalDateTime createdAt;
+
+        // Constructor from Entity
+        public AttachmentResponse(Attachment attachment) {
+            this.id = attachment.getId();
+            this.applicationId = attachment.getApplicationId();
+            this.fileName = attachment.getFileName();
+            this.contentType = attachment.getContentType();
+            this.size = attachment.getSizeBytes();
+            this.sha256 = attachment.getContentHash();
+            this.createdAt = attachment.getCreatedAt();
+        }
+    }
+}
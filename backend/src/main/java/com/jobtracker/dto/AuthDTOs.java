@@ -55,8 +55,21 @@ public class AuthDTOs {
     }
 
     /**
-     * JwtResponse - Response sent after successful login
-     * Contains JWT token and user information
+     * RefreshTokenRequest - Refresh token to rotate (refresh) or revoke (logout)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RefreshTokenRequest {
+
+        @NotBlank(message = "Refresh token is required")
+        private String refreshToken;
+    }
+
+    /**
+     * JwtResponse - Response sent after successful login or refresh
+     * Contains a short-lived access token, the refresh token to get the
+     * next one, and user information
      */
     @Data
     @NoArgsConstructor
@@ -69,6 +82,8 @@ public class AuthDTOs {
         private String username;
         private String email;
         private List<String> roles;
+        private String refreshToken;
+        private long expiresIn; // access token lifetime in seconds
 
         public JwtResponse(String token, Long id, String username, String email, List<String> roles) {
             this.token = token;
@@ -77,6 +92,13 @@ public class AuthDTOs {
             this.email = email;
             this.roles = roles;
         }
+
+        public JwtResponse(String token, String refreshToken, long expiresIn, Long id, String username,
+                String email, List<String> roles) {
+            this(token, id, username, email, roles);
+            this.refreshToken = refreshToken;
+            this.expiresIn = expiresIn;
+        }
     }
 
     /**
@@ -0,0 +1,38 @@
+package com.jobtracker.dto;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * FieldSelection
+ * Support for ?fields=id,company,status on list endpoints
+ *
+ * DTOs annotated with @JsonFilter(FILTER_ID) are written with only the
+ * requested properties; unknown names are ignored. Without a selection
+ * the default filter (see JacksonConfig) writes everything.
+ */
+public final class FieldSelection {
+
+    public static final String FILTER_ID = "fields";
+
+    private FieldSelection() {
+    }
+
+    public static MappingJacksonValue apply(Object body, String fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (fields != null && !fields.isBlank()) {
+            Set<String> names = Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toSet());
+            value.setFilters(new SimpleFilterProvider()
+                    .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+        }
+        return value;
+    }
+}
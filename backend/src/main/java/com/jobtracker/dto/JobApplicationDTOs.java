@@ -1,15 +1,24 @@
 package com.jobtracker.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jobtracker.dto.PageDTOs.PageResponse;
 import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.ApplicationText;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * JobApplicationDTOs
@@ -41,7 +50,7 @@ public class JobApplicationDTOs {
         @NotNull(message = "Date applied is required")
         private LocalDate dateApplied;
 
-        @Size(max = 1000, message = "Notes must not exceed 1000 characters")
+        @Size(max = ApplicationText.MAX_LENGTH, message = "Notes must not exceed 100000 characters")
         private String notes;
     }
 
@@ -64,17 +73,19 @@ public class JobApplicationDTOs {
 
         private LocalDate dateApplied;
 
-        @Size(max = 1000, message = "Notes must not exceed 1000 characters")
+        @Size(max = ApplicationText.MAX_LENGTH, message = "Notes must not exceed 100000 characters")
         private String notes;
     }
 
     /**
      * JobApplicationResponse - Data sent to client
-     * Includes all application details
+     * Includes all application details; list pages leave out the owner
+     * (always the caller) and may be trimmed with ?fields=
      */
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonFilter(FieldSelection.FILTER_ID)
     public static class JobApplicationResponse {
 
         private Long id;
@@ -82,24 +93,122 @@ public class JobApplicationDTOs {
         private String role;
         private ApplicationStatus status;
         private LocalDate dateApplied;
+        // Only in single-application responses; list rows carry hasNotes
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private String notes;
+        private boolean hasNotes;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private Long userId;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private String username;
+        // Oldest application for the same company and role, when this one repeats it
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long duplicateOf;
 
         // Constructor from Entity
         public JobApplicationResponse(com.jobtracker.entity.JobApplication application) {
+            this(application, true);
+        }
+
+        // Constructor from Entity, optionally without the owner fields
+        public JobApplicationResponse(com.jobtracker.entity.JobApplication application, boolean includeOwner) {
             this.id = application.getId();
             this.company = application.getCompany();
             this.role = application.getRole();
             this.status = application.getStatus();
             this.dateApplied = application.getDateApplied();
             this.notes = application.getNotes();
+            this.hasNotes = Boolean.TRUE.equals(application.getHasNotes());
             this.createdAt = application.getCreatedAt();
             this.updatedAt = application.getUpdatedAt();
-            this.userId = application.getUser().getId();
-            this.username = application.getUser().getUsername();
+            this.duplicateOf = application.getDuplicateOf();
+            if (includeOwner) {
+                this.userId = application.getUser().getId();
+                this.username = application.getUser().getUsername();
+            }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * ApplicationFilter - Optional list filters, bound from query parameters
+     * Every filter that is set must match (status=APPLIED,INTERVIEW matches either status)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ApplicationFilter {
+        private Set<ApplicationStatus> status;
+        private String keyword;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate appliedFrom;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate appliedTo;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime updatedFrom;
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime updatedTo;
+    }
+
+    /**
+     * DashboardResponse - First page of applications plus status counts,
+     * so the dashboard needs one request instead of two
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DashboardResponse {
+        private PageResponse<JobApplicationResponse> applications;
+        private Map<String, Long> stats;
+    }
+
+    /**
+     * Suggestion - A previously used company or role name and how often it was used
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Suggestion {
+        private String value;
+        private long count;
+    }
+
+    /**
+     * SuggestionsResponse - Typeahead matches for company and role, most used first
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SuggestionsResponse {
+        private List<Suggestion> companies;
+        private List<Suggestion> roles;
+    }
+
+    /**
+     * DuplicateGroup - Applications of one user for the same company and role, oldest first
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DuplicateGroup {
+        private List<JobApplicationResponse> applications;
+    }
+
+    /**
+     * MergeRequest - Applications to fold into the one being kept
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MergeRequest {
+
+        @NotEmpty(message = "duplicateIds is required")
+        @Size(max = 50, message = "At most 50 applications can be merged at once")
+        private List<Long> duplicateIds;
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.Organization;
+import com.jobtracker.entity.OrganizationInvitation;
+import com.jobtracker.entity.OrganizationMember;
+import com.jobtracker.entity.OrganizationRole;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * OrganizationDTOs
+ * Data Transfer Objects for organisations (tenants) and their members
+ */
+public class OrganizationDTOs {
+
+    /**
+     * CreateOrganizationRequest - Name of a new organisation
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreateOrganizationRequest {
+
+        @NotBlank(message = "Name is required")
+        @Size(max = 100, message = "Name must not exceed 100 characters")
+        private String name;
+    }
+
+    /**
+     * InviteMemberRequest - Existing user to invite, as a member unless role
+     * is ADMIN (site admins only)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class InviteMemberRequest {
+
+        @NotBlank(message = "Username is required")
+        private String username;
+
+        private OrganizationRole role = OrganizationRole.MEMBER;
+    }
+
+    /**
+     * OrganizationResponse - Data sent to client
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrganizationResponse {
+
+        private Long id;
+        private String name;
+        private LocalDateTime createdAt;
+
+        // Constructor from Entity
+        public OrganizationResponse(Organization organization) {
+            this.id = organization.getId();
+            this.name = organization.getName();
+            this.createdAt = organization.getCreatedAt();
+        }
+    }
+
+    /**
+     * MemberResponse - A member with their application counts (as of statsUpdatedAt)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemberResponse {
+
+        private Long userId;
+        private String username;
+        private OrganizationRole role;
+        private long applied;
+        private long interview;
+        private long offer;
+        private long rejected;
+        private long total;
+        private LocalDateTime statsUpdatedAt;
+
+        // Constructor from Entity
+        public MemberResponse(OrganizationMember member) {
+            this.userId = member.getUserId();
+            this.username = member.getUsername();
+            this.role = member.getMemberRole();
+            this.applied = member.getApplied();
+            this.interview = member.getInterview();
+            this.offer = member.getOffer();
+            this.rejected = member.getRejected();
+            this.total = member.getTotal();
+            this.statsUpdatedAt = member.getStatsUpdatedAt();
+        }
+    }
+
+    /**
+     * InvitationResponse - A pending invitation, as seen by the inviting
+     * admin or the invited user
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class InvitationResponse {
+
+        private Long id;
+        private Long organizationId;
+        private String organizationName;
+        private Long userId;
+        private String username;
+        private OrganizationRole role;
+        private LocalDateTime createdAt;
+
+        // Constructor from Entity
+        public InvitationResponse(OrganizationInvitation invitation, String organizationName) {
+            this.id = invitation.getId();
+            this.organizationId = invitation.getOrganizationId();
+            this.organizationName = organizationName;
+            this.userId = invitation.getUserId();
+            this.username = invitation.getUsername();
+            this.role = invitation.getMemberRole();
+            this.createdAt = invitation.getCreatedAt();
+        }
+    }
+}
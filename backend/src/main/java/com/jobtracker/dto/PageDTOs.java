@@ -0,0 +1,42 @@
+package com.jobtracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * PageDTOs
+ * Paged list envelope
+ *
+ * Replaces Spring's Page JSON (pageable, sort, first/last/empty...) with
+ * just what clients use.
+ */
+public class PageDTOs {
+
+    /**
+     * PageResponse - One page of results
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PageResponse<T> {
+
+        private List<T> content;
+        private int page;
+        private int size;
+        private long totalElements;
+        private int totalPages;
+
+        // Constructor from a Spring Data page
+        public PageResponse(Page<T> page) {
+            this.content = page.getContent();
+            this.page = page.getNumber();
+            this.size = page.getSize();
+            this.totalElements = page.getTotalElements();
+            this.totalPages = page.getTotalPages();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.Reminder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReminderDTOs
+ * Data Transfer Objects for follow-up reminders
+ */
+public class ReminderDTOs {
+
+    /**
+     * ReminderResponse - Data sent to client
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReminderResponse {
+
+        private Long id;
+        private Long applicationId;
+        private String message;
+        private LocalDateTime createdAt;
+
+        // Constructor from Entity
+        public ReminderResponse(Reminder reminder) {
+            this.id = reminder.getId();
+            this.applicationId = reminder.getApplicationId();
+            this.message = reminder.getMessage();
+            this.createdAt = reminder.getCreatedAt();
+        }
+    }
+}
@@ -4,5 +4,12 @@ public enum ApplicationStatus {
     APPLIED,
     INTERVIEW,
     OFFER,
-    REJECTED
+    REJECTED;
+
+    /**
+     * Still waiting on the company, so a stale application deserves a reminder
+     */
+    public boolean needsFollowUp() {
+        return this == APPLIED || this == INTERVIEW;
+    }
 }
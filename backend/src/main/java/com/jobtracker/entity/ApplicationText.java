@@ -0,0 +1,79 @@
+package com.jobtracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * ApplicationText
+ * A long-form text field of an application, kept out of job_applications
+ *
+ * List queries never join this table; only single-application reads and
+ * writes touch it. Content is UTF-8, compressed as recorded in encoding.
+ */
+@Entity
+@Table(name = "application_texts", indexes = {
+        @Index(name = "idx_application_texts_user", columnList = "user_id")
+})
+@IdClass(ApplicationText.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationText {
+
+    // Longest text accepted for a field, in characters
+    public static final int MAX_LENGTH = 100_000;
+
+    @Id
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private Field field;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Encoding encoding;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] content;
+
+    // Length of the text in characters
+    @Column(nullable = false)
+    private int length;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum Field {
+        NOTES
+    }
+
+    public enum Encoding {
+        PLAIN,
+        DEFLATE
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long applicationId;
+        private Field field;
+    }
+}
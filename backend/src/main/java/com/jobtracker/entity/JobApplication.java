@@ -1,5 +1,6 @@
 package com.jobtracker.entity;
 
+import com.jobtracker.sharding.ShardSafeId;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,19 +8,31 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications", indexes = {
+        @Index(name = "idx_job_applications_next_reminder", columnList = "next_reminder_at"),
+        @Index(name = "idx_job_applications_user_status", columnList = "user_id, deleted, status"),
+        @Index(name = "idx_job_applications_user_date", columnList = "user_id, deleted, date_applied"),
+        @Index(name = "idx_job_applications_user_updated", columnList = "user_id, deleted, updated_at"),
+        @Index(name = "idx_job_applications_user_dedupe", columnList = "user_id, deleted, dedupe_key")
+})
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job-applications")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardSafeId
     private Long id;
 
     @NotBlank
@@ -41,8 +54,12 @@ public class JobApplication {
     @Column(name = "date_applied", nullable = false)
     private LocalDate dateApplied;
 
-    @Size(max = 1000)
-    @Column(columnDefinition = "TEXT")
+    // Whether the application has notes; the text itself is in application_texts
+    @Column(name = "has_notes", nullable = false)
+    private Boolean hasNotes = false;
+
+    // Loaded only for single-application reads and writes (see ApplicationTextService)
+    @Transient
     private String notes;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,9 +72,21 @@ public class JobApplication {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // When to check this application for a follow-up reminder (null = never)
+    @Column(name = "next_reminder_at")
+    private LocalDateTime nextReminderAt;
+
     @Column(name = "deleted", nullable = false)
     private Boolean deleted = false;
 
+    // Hash of the normalized company and role (ApplicationKeys), for duplicate checks
+    @Column(name = "dedupe_key", length = 64)
+    private String dedupeKey;
+
+    // Set by the duplicate scan on every copy but the oldest, to that oldest copy's id
+    @Column(name = "duplicate_of")
+    private Long duplicateOf;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,45 @@
+package com.jobtracker.entity;
+
+import com.jobtracker.sharding.ShardSafeId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Organization
+ * A tenant, e.g. a career-services team whose admins follow their members
+ *
+ * Lives on the directory shard. The quota columns override the
+ * tenants.* defaults for this organisation when set.
+ */
+@Entity
+@Table(name = "organizations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Organization {
+
+    @Id
+    @ShardSafeId
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "max_concurrent_requests")
+    private Integer maxConcurrentRequests;
+
+    @Column(name = "requests_per_second")
+    private Integer requestsPerSecond;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobtracker.entity;
+
+import com.jobtracker.sharding.ShardSafeId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * OrganizationInvitation
+ * An organisation admin's offer to a user to join, pending until the user
+ * accepts or declines it
+ *
+ * Lives on the directory shard. The role is the one the user gets on
+ * accepting; only site admins can invite as ADMIN.
+ */
+@Entity
+@Table(name = "organization_invitations", indexes = {
+        @Index(name = "uk_organization_invitations_org_user", columnList = "organization_id, user_id", unique = true),
+        @Index(name = "idx_organization_invitations_user", columnList = "user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationInvitation {
+
+    @Id
+    @ShardSafeId
+    private Long id;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 20)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "member_role", nullable = false)
+    private OrganizationRole memberRole;
+
+    @Column(name = "invited_by", nullable = false)
+    private Long invitedBy;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
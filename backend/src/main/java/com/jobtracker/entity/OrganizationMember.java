@@ -0,0 +1,68 @@
+package com.jobtracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * OrganizationMember
+ * A user's membership of an organisation, with a rollup of their application counts
+ *
+ * Lives on the directory shard next to the organisation, while the user's
+ * applications live on the user's own shard. The counts are copied over by
+ * TenantRollupService shortly after each change, so organisation views
+ * never read applications to aggregate them. A user belongs to at most one
+ * organisation.
+ */
+@Entity
+@Table(name = "organization_members", indexes = {
+        @Index(name = "idx_organization_members_org_username", columnList = "organization_id, username")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationMember {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(nullable = false, length = 20)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "member_role", nullable = false)
+    private OrganizationRole memberRole;
+
+    @Column(nullable = false)
+    private long applied;
+
+    @Column(nullable = false)
+    private long interview;
+
+    @Column(nullable = false)
+    private long offer;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(name = "stats_updated_at")
+    private LocalDateTime statsUpdatedAt;
+
+    @Column(name = "joined_at", nullable = false, updatable = false)
+    private LocalDateTime joinedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        joinedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,6 @@
+package com.jobtracker.entity;
+
+public enum OrganizationRole {
+    ADMIN,
+    MEMBER
+}
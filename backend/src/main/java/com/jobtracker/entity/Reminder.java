@@ -0,0 +1,48 @@
+package com.jobtracker.entity;
+
+import com.jobtracker.sharding.ShardSafeId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reminder
+ * Follow-up nudge for an application that has been APPLIED/INTERVIEW
+ * without any update for a while
+ */
+@Entity
+@Table(name = "reminders", indexes = {
+        @Index(name = "idx_reminders_user_dismissed", columnList = "user_id, dismissed")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Reminder {
+
+    @Id
+    @ShardSafeId
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Column(name = "dismissed", nullable = false)
+    private Boolean dismissed = false;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,30 @@
+package com.jobtracker.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ApplicationChangeEvent
+ * Published by JobApplicationService whenever a user's application changes
+ *
+ * Listeners should use @TransactionalEventListener so they only see
+ * changes that were actually committed. Consumers that need durable,
+ * once-per-cluster delivery subscribe to ApplicationEventBus instead.
+ */
+@Getter
+@AllArgsConstructor
+public class ApplicationChangeEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final Long applicationId;
+
+    // JobApplicationResponse without notes for create/update/patch, null for delete
+    private final Object data;
+}
@@ -0,0 +1,136 @@
+package com.jobtracker.event;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * ApplicationEventBus
+ * In-process bus for committed job application changes (fed by OutboxRelay)
+ *
+ * For consumers that must see every change once per cluster, even across
+ * restarts, such as TenantRollupService. Only the node running the relay
+ * delivers, so per-node caches listen to ApplicationChangeEvent instead.
+ * Events are hashed by user id onto a fixed number of lanes. Each lane is a
+ * lock-free queue drained by at most one thread at a time, so consumers see
+ * a given user's events in order while different users run in parallel.
+ * Delivery is at-least-once: consumers must tolerate duplicates.
+ */
+@Component
+public class ApplicationEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationEventBus.class);
+
+    @Value("${event-bus.lanes:4}")
+    private int laneCount;
+
+    private final List<Consumer<ApplicationChangeEvent>> consumers = new CopyOnWriteArrayList<>();
+
+    private Lane[] lanes;
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newFixedThreadPool(laneCount, runnable -> {
+            Thread thread = new Thread(runnable, "event-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Register a consumer for all application change events
+     */
+    public void subscribe(Consumer<ApplicationChangeEvent> consumer) {
+        consumers.add(consumer);
+    }
+
+    /**
+     * Queue an event for delivery
+     *
+     * @return completes once every consumer has handled the event, or
+     *         exceptionally with the first consumer failure
+     */
+    public CompletableFuture<Void> publish(ApplicationChangeEvent event) {
+        Delivery delivery = new Delivery(event, new CompletableFuture<>());
+        lanes[Math.floorMod(event.getUserId().hashCode(), lanes.length)].submit(delivery);
+        return delivery.done();
+    }
+
+    private record Delivery(ApplicationChangeEvent event, CompletableFuture<Void> done) {
+    }
+
+    private final class Lane {
+
+        private final Queue<Delivery> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        void submit(Delivery delivery) {
+            queue.offer(delivery);
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Delivery delivery;
+                while ((delivery = queue.poll()) != null) {
+                    deliver(delivery);
+                }
+            } finally {
+                draining.set(false);
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void deliver(Delivery delivery) {
+            RuntimeException failure = null;
+            for (Consumer<ApplicationChangeEvent> consumer : consumers) {
+                try {
+                    consumer.accept(delivery.event());
+                } catch (RuntimeException e) {
+                    logger.warn("Event consumer failed for application {}: {}",
+                            delivery.event().getApplicationId(), e.getMessage());
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+
+            if (failure == null) {
+                delivery.done().complete(null);
+            } else {
+                delivery.done().completeExceptionally(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.jobtracker.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.cluster.ClusterLease;
+import com.jobtracker.config.SchedulingConfig;
+import com.jobtracker.entity.OutboxEvent;
+import com.jobtracker.repository.OutboxEventRepository;
+import com.jobtracker.sharding.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * OutboxRelay
+ * Drains the outbox table in batches onto the ApplicationEventBus
+ *
+ * Rows are deleted only after every consumer has handled them. If an event
+ * fails, it and all later events for the same user stay in the outbox and
+ * are redelivered on the next run, which keeps per-user order intact; the
+ * run itself moves on past them, so other users are not held up. An event
+ * that has failed outbox.max-attempts times, or cannot be read at all, is
+ * dead-lettered: kept in the table but no longer delivered.
+ *
+ * A user has at most one event in flight: their next event is published
+ * only after the previous one was delivered, while different users'
+ * events go out side by side.
+ *
+ * Each shard has its own outbox, drained in turn. Only the node holding
+ * the "outbox-relay" ClusterLease runs the relay. The lease is renewed
+ * before every round of deliveries, each of which takes at most
+ * outbox.delivery-timeout-ms (keep that well below cluster.lease-ms), and
+ * the run stops as soon as renewal fails.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String LEASE = "outbox-relay";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ApplicationEventBus eventBus;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ClusterLease clusterLease;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.delivery-timeout-ms:10000}")
+    private long deliveryTimeoutMs;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    private Counter deadLettered;
+
+    @PostConstruct
+    void init() {
+        deadLettered = Counter.builder("outbox.dead-lettered")
+                .description("Outbox events given up on")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-ms:500}", scheduler = SchedulingConfig.OUTBOX_SCHEDULER)
+    public void relay() {
+        if (clusterLease.tryAcquire(LEASE)) {
+            boolean[] holding = { true };
+            shardRouter.forEachShard(() -> {
+                if (holding[0]) {
+                    holding[0] = relayShard();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return false if the lease was lost, so the run must stop
+     */
+    private boolean relayShard() {
+        // Users with an undelivered event in this run: their later events wait for the next run
+        Set<Long> blockedUsers = new HashSet<>();
+        long after = 0;
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findPendingAfter(after, PageRequest.of(0, batchSize));
+            if (!batch.isEmpty()) {
+                if (!relayBatch(batch, blockedUsers)) {
+                    return false;
+                }
+                after = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == batchSize);
+        return true;
+    }
+
+    /**
+     * Deliver a batch in rounds of at most one event per user
+     *
+     * @return false if the lease was lost; undelivered events stay pending
+     */
+    private boolean relayBatch(List<OutboxEvent> batch, Set<Long> blockedUsers) {
+        Map<Long, ArrayDeque<OutboxEvent>> queues = new LinkedHashMap<>();
+        for (OutboxEvent outboxEvent : batch) {
+            if (!blockedUsers.contains(outboxEvent.getUserId())) {
+                queues.computeIfAbsent(outboxEvent.getUserId(), user -> new ArrayDeque<>()).add(outboxEvent);
+            }
+        }
+
+        List<Long> delivered = new ArrayList<>(batch.size());
+        List<OutboxEvent> failed = new ArrayList<>();
+        boolean holding = true;
+        while (!queues.isEmpty()) {
+            if (!clusterLease.tryAcquire(LEASE)) {
+                logger.warn("Lost the {} lease, stopping this run", LEASE);
+                holding = false;
+                break;
+            }
+
+            List<OutboxEvent> round = new ArrayList<>(queues.size());
+            List<Optional<CompletableFuture<Void>>> deliveries = new ArrayList<>(queues.size());
+            for (ArrayDeque<OutboxEvent> queue : queues.values()) {
+                OutboxEvent next = queue.poll();
+                round.add(next);
+                deliveries.add(toEvent(next).map(eventBus::publish));
+            }
+            queues.values().removeIf(ArrayDeque::isEmpty);
+
+            for (int i = 0; i < round.size(); i++) {
+                OutboxEvent outboxEvent = round.get(i);
+                Optional<CompletableFuture<Void>> delivery = deliveries.get(i);
+                String error = delivery.isEmpty() ? "Unreadable payload" : await(delivery.get());
+                if (error == null) {
+                    delivered.add(outboxEvent.getId());
+                    continue;
+                }
+
+                outboxEvent.setAttempts(outboxEvent.getAttempts() + 1);
+                outboxEvent.setLastError(error.length() > 255 ? error.substring(0, 255) : error);
+                if (delivery.isEmpty() || outboxEvent.getAttempts() >= maxAttempts) {
+                    outboxEvent.setDeadLetteredAt(LocalDateTime.now());
+                    deadLettered.increment();
+                    logger.error("Giving up on outbox event {} for application {} after {} attempts: {}",
+                            outboxEvent.getId(), outboxEvent.getApplicationId(), outboxEvent.getAttempts(), error);
+                } else {
+                    // Keep the user's later events back until this one is delivered
+                    blockedUsers.add(outboxEvent.getUserId());
+                    queues.remove(outboxEvent.getUserId());
+                }
+                failed.add(outboxEvent);
+            }
+        }
+
+        outboxEventRepository.deleteAllByIdInBatch(delivered);
+        outboxEventRepository.saveAll(failed);
+        return holding;
+    }
+
+    private Optional<ApplicationChangeEvent> toEvent(OutboxEvent outboxEvent) {
+        try {
+            Object data = outboxEvent.getPayload() == null
+                    ? null
+                    : objectMapper.readTree(outboxEvent.getPayload());
+            return Optional.of(new ApplicationChangeEvent(
+                    outboxEvent.getEventType(),
+                    outboxEvent.getUserId(),
+                    outboxEvent.getApplicationId(),
+                    data));
+        } catch (JsonProcessingException e) {
+            logger.error("Cannot read outbox event {}: {}", outboxEvent.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return null once delivered, else why it was not
+     */
+    private String await(CompletableFuture<Void> delivery) {
+        try {
+            delivery.get(deliveryTimeoutMs, TimeUnit.MILLISECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return String.valueOf(e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            return "Not delivered within " + deliveryTimeoutMs + " ms";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted";
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobtracker.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.entity.OutboxEvent;
+import com.jobtracker.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * OutboxWriter
+ * Writes every ApplicationChangeEvent to the outbox table
+ *
+ * Runs BEFORE_COMMIT, i.e. inside the transaction that made the change,
+ * so the outbox row commits or rolls back together with it
+ */
+@Component
+public class OutboxWriter {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onApplicationChange(ApplicationChangeEvent event) throws JsonProcessingException {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setUserId(event.getUserId());
+        outboxEvent.setApplicationId(event.getApplicationId());
+        outboxEvent.setEventType(event.getType());
+        outboxEvent.setPayload(event.getData() == null ? null : objectMapper.writeValueAsString(event.getData()));
+
+        outboxEventRepository.save(outboxEvent);
+    }
+}
@@ -84,6 +84,23 @@ public class CustomExceptions {
         }
     }
 
+    /**
+     * DuplicateApplicationException
+     * Thrown when the user already has an application for the same company and role (409)
+     */
+    public static class DuplicateApplicationException extends DuplicateResourceException {
+        private final Long existingId;
+
+        public DuplicateApplicationException(Long existingId) {
+            super("An application for this company and role already exists: " + existingId);
+            this.existingId = existingId;
+        }
+
+        public Long getExistingId() {
+            return existingId;
+        }
+    }
+
     /**
      * InvalidTokenException
      * Thrown when JWT token is invalid or expired (401)
@@ -97,4 +114,14 @@ public class CustomExceptions {
             super(message, cause);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * ServiceUnavailableException
+     * Thrown when a resource is temporarily unavailable, e.g. while a user is moved between shards (503)
+     */
+    public static class ServiceUnavailableException extends RuntimeException {
+        public ServiceUnavailableException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.jobtracker.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LogRateLimiter
+ * Caps how often a noisy log statement may fire (fixed window, lock-free)
+ *
+ * Used for messages a client can trigger at will, such as rejected JWTs,
+ * so a token-spraying client cannot flood the logs. Suppressed messages
+ * are counted and reported with the next one that gets through.
+ */
+public class LogRateLimiter {
+
+    private final int permitsPerWindow;
+    private final long windowNanos;
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger used = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public LogRateLimiter(int permitsPerWindow, Duration window) {
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * @return -1 if the message should be dropped, otherwise the number of
+     *         messages dropped since the last one that was allowed
+     */
+    public long tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+
+        if (used.incrementAndGet() <= permitsPerWindow) {
+            return suppressed.getAndSet(0);
+        }
+        suppressed.incrementAndGet();
+        return -1;
+    }
+}
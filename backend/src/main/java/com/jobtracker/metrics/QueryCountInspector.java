@@ -0,0 +1,63 @@
+package com.jobtracker.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * QueryCountInspector
+ * Hibernate StatementInspector that counts SQL statements into the counter
+ * of the current thread, if it has one
+ *
+ * Registered via hibernate.session_factory.statement_inspector; the counter
+ * is started and read per request by QueryCountFilter. Work the request hands
+ * to another thread runs with callCounted so its statements count too.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> current = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = current.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    /**
+     * Count the current thread's statements into a new counter
+     */
+    public static AtomicInteger start() {
+        AtomicInteger count = new AtomicInteger();
+        current.set(count);
+        return count;
+    }
+
+    /**
+     * Counter of the current thread, or null
+     */
+    public static AtomicInteger get() {
+        return current.get();
+    }
+
+    public static void clear() {
+        current.remove();
+    }
+
+    public static <T> T callCounted(AtomicInteger count, Supplier<T> work) {
+        AtomicInteger previous = current.get();
+        current.set(count);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.jobtracker.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * V11_1__BackfillApplicationTexts
+ * Copies existing notes from job_applications into application_texts and
+ * sets has_notes
+ *
+ * Chunked along the primary key and committed per chunk like V8, so no
+ * single statement locks or rewrites the whole table. Whitespace-only
+ * notes count as none, as in ApplicationTextService. Rows already copied
+ * are skipped, so an interrupted run can simply be repeated.
+ */
+@Component
+public class V11_1__BackfillApplicationTexts extends BaseJavaMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(V11_1__BackfillApplicationTexts.class);
+
+    private static final String SELECT_SQL = "SELECT id, user_id, notes, COALESCE(updated_at, created_at) AS updated_at " +
+            "FROM job_applications WHERE id > ? AND notes IS NOT NULL AND TRIM(notes) <> '' ORDER BY id LIMIT ?";
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO application_texts " +
+            "(application_id, field, user_id, encoding, content, length, updated_at) " +
+            "VALUES (?, 'NOTES', ?, 'PLAIN', ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE job_applications SET has_notes = 1 WHERE id = ?";
+
+    @Value("${migrations.backfill-chunk-size:5000}")
+    private int chunkSize;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        long lastId = 0;
+        int copied = 0;
+        try (PreparedStatement select = connection.prepareStatement(SELECT_SQL);
+             PreparedStatement insert = connection.prepareStatement(INSERT_SQL);
+             PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+            while (true) {
+                select.setLong(1, lastId);
+                select.setInt(2, chunkSize);
+                int rows = 0;
+                int batched = 0;
+                try (ResultSet result = select.executeQuery()) {
+                    while (result.next()) {
+                        lastId = result.getLong("id");
+                        rows++;
+                        String notes = result.getString("notes");
+                        // TRIM only strips spaces; tabs and newlines are blank too
+                        if (notes.isBlank()) {
+                            continue;
+                        }
+                        insert.setLong(1, lastId);
+                        insert.setLong(2, result.getLong("user_id"));
+                        insert.setBytes(3, notes.getBytes(StandardCharsets.UTF_8));
+                        insert.setInt(4, notes.length());
+                        insert.setTimestamp(5, result.getTimestamp("updated_at"));
+                        insert.addBatch();
+                        update.setLong(1, lastId);
+                        update.addBatch();
+                        batched++;
+                    }
+                }
+                if (rows == 0) {
+                    break;
+                }
+                if (batched > 0) {
+                    insert.executeBatch();
+                    update.executeBatch();
+                }
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+                copied += batched;
+            }
+        }
+
+        logger.info("Copied notes of {} existing applications to application_texts", copied);
+    }
+}
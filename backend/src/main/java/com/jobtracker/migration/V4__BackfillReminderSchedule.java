@@ -0,0 +1,73 @@
+package com.jobtracker.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * V4__BackfillReminderSchedule
+ * Gives applications that predate reminders a next_reminder_at
+ *
+ * Walks job_applications in primary-key ranges and commits each range on
+ * its own, so row locks are only ever held on one chunk. Registered as a
+ * bean, which Flyway picks up through Spring Boot's auto-configuration.
+ */
+@Component
+public class V4__BackfillReminderSchedule extends BaseJavaMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(V4__BackfillReminderSchedule.class);
+
+    // Statuses that needed follow-up when this migration was written
+    private static final String BACKFILL_SQL = "UPDATE job_applications SET next_reminder_at = ? " +
+            "WHERE id > ? AND id <= ? AND next_reminder_at IS NULL AND deleted = 0 " +
+            "AND status IN ('APPLIED', 'INTERVIEW')";
+
+    @Value("${migrations.backfill-chunk-size:5000}")
+    private int chunkSize;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        long maxId = maxId(connection);
+        // Due now: the reminder job pushes rows edited recently out by itself
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int updated = 0;
+        try (PreparedStatement statement = connection.prepareStatement(BACKFILL_SQL)) {
+            for (long from = 0; from < maxId; from += chunkSize) {
+                statement.setTimestamp(1, now);
+                statement.setLong(2, from);
+                statement.setLong(3, from + chunkSize);
+                updated += statement.executeUpdate();
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+            }
+        }
+
+        logger.info("Scheduled reminder checks for {} existing applications", updated);
+    }
+
+    private long maxId(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM job_applications")) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
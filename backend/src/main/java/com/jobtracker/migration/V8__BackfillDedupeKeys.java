@@ -0,0 +1,77 @@
+package com.jobtracker.migration;
+
+import com.jobtracker.service.ApplicationKeys;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * V8__BackfillDedupeKeys
+ * Computes dedupe_key for applications created before duplicate detection
+ *
+ * The key is a hash of normalized names, computed in Java, so rows are
+ * read and written in chunks. Ids are not dense (see ShardSafeIdGenerator),
+ * so chunks follow the primary key from the last id seen rather than
+ * fixed id ranges; each chunk commits on its own like V4.
+ */
+@Component
+public class V8__BackfillDedupeKeys extends BaseJavaMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(V8__BackfillDedupeKeys.class);
+
+    private static final String SELECT_SQL = "SELECT id, company, role FROM job_applications " +
+            "WHERE id > ? AND dedupe_key IS NULL ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_SQL = "UPDATE job_applications SET dedupe_key = ? WHERE id = ?";
+
+    @Value("${migrations.backfill-chunk-size:5000}")
+    private int chunkSize;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        long lastId = 0;
+        int updated = 0;
+        try (PreparedStatement select = connection.prepareStatement(SELECT_SQL);
+             PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+            while (true) {
+                select.setLong(1, lastId);
+                select.setInt(2, chunkSize);
+                int rows = 0;
+                try (ResultSet result = select.executeQuery()) {
+                    while (result.next()) {
+                        lastId = result.getLong("id");
+                        update.setString(1, ApplicationKeys.dedupeKey(result.getString("company"),
+                                result.getString("role")));
+                        update.setLong(2, lastId);
+                        update.addBatch();
+                        rows++;
+                    }
+                }
+                if (rows == 0) {
+                    break;
+                }
+                update.executeBatch();
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+                updated += rows;
+            }
+        }
+
+        logger.info("Computed duplicate keys for {} existing applications", updated);
+    }
+}
@@ -0,0 +1,57 @@
+package com.jobtracker.quota;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TenantQuota
+ * Request limits of one organisation: a rate (token bucket) and a cap on
+ * requests in flight at once
+ *
+ * The in-flight cap is what protects the connection pools: a tenant can
+ * only ever hold that many connections, however many users it has.
+ */
+public class TenantQuota {
+
+    private final Semaphore inFlight;
+    private final double permitsPerNano;
+    private final double burst;
+
+    private double tokens;
+    private long refilledAt = System.nanoTime();
+
+    public TenantQuota(int maxConcurrent, int requestsPerSecond) {
+        this.inFlight = new Semaphore(maxConcurrent);
+        this.permitsPerNano = requestsPerSecond / 1e9;
+        // Allow a one-second burst
+        this.burst = requestsPerSecond;
+        this.tokens = burst;
+    }
+
+    /**
+     * Take one request from the rate limit
+     *
+     * @return false if the tenant is over its rate
+     */
+    public synchronized boolean tryTakeRate() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    /**
+     * Wait up to timeoutMs for an in-flight slot; release() it when done
+     */
+    public boolean tryEnter(long timeoutMs) throws InterruptedException {
+        return inFlight.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void release() {
+        inFlight.release();
+    }
+}
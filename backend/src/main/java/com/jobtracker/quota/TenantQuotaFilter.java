@@ -0,0 +1,118 @@
+package com.jobtracker.quota;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobtracker.config.JsonWriters;
+import com.jobtracker.entity.Organization;
+import com.jobtracker.security.UserDetailsImpl;
+import com.jobtracker.service.OrganizationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * TenantQuotaFilter
+ * Per-organisation request rate and concurrency limits
+ *
+ * Runs after authentication. Requests of users in an organisation must
+ * fit its rate and wait at most tenants.acquire-timeout-ms for one of its
+ * in-flight slots, otherwise they get 429 with Retry-After. Limits come
+ * from the organisation row when set, else the tenants.* defaults. Users
+ * outside organisations are not limited here.
+ */
+@Component
+public class TenantQuotaFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private JsonWriters jsonWriters;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${tenants.max-concurrent-requests:8}")
+    private int defaultMaxConcurrent;
+
+    @Value("${tenants.requests-per-second:50}")
+    private int defaultRequestsPerSecond;
+
+    @Value("${tenants.acquire-timeout-ms:200}")
+    private long acquireTimeoutMs;
+
+    private Cache<Long, TenantQuota> quotas;
+
+    @PostConstruct
+    void init() {
+        // Idle tenants are dropped; a changed override applies once its entry is rebuilt
+        quotas = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long organizationId = authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl user
+                ? organizationService.organizationOf(user.getId())
+                : null;
+        if (organizationId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TenantQuota quota = quotas.get(organizationId, this::load);
+        if (!quota.tryTakeRate()) {
+            reject(request, response, "rate");
+            return;
+        }
+        boolean entered;
+        try {
+            entered = quota.tryEnter(acquireTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+        if (!entered) {
+            reject(request, response, "concurrency");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            quota.release();
+        }
+    }
+
+    private TenantQuota load(Long organizationId) {
+        Organization organization = organizationService.findOrganization(organizationId).orElse(null);
+        Integer maxConcurrent = organization != null ? organization.getMaxConcurrentRequests() : null;
+        Integer requestsPerSecond = organization != null ? organization.getRequestsPerSecond() : null;
+        return new TenantQuota(
+                maxConcurrent != null ? maxConcurrent : defaultMaxConcurrent,
+                requestsPerSecond != null ? requestsPerSecond : defaultRequestsPerSecond);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String limit) throws IOException {
+        meterRegistry.counter("tenant.requests.rejected", "limit", limit).increment();
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        jsonWriters.writeError(response, 429, "Too Many Requests",
+                "Your organisation is over its request quota, please retry shortly", request.getServletPath());
+    }
+}
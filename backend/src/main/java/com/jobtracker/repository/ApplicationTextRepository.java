@@ -0,0 +1,16 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.ApplicationText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ApplicationTextRepository extends JpaRepository<ApplicationText, ApplicationText.Key> {
+    /**
+     * Remove one text field of an application
+     */
+    @Modifying
+    @Query("DELETE FROM ApplicationText t WHERE t.applicationId = :applicationId AND t.field = :field")
+    int deleteField(@Param("applicationId") Long applicationId, @Param("field") ApplicationText.Field field);
+}
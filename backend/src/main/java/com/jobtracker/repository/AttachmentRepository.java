@@ -0,0 +1,45 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+    /**
+     * Attachments of an application, oldest first (metadata only, no content)
+     */
+    List<Attachment> findByApplicationIdAndUserIdOrderById(Long applicationId, Long userId);
+
+    /**
+     * Find an attachment by ID, application and owner
+     */
+    Optional<Attachment> findByIdAndApplicationIdAndUserId(Long id, Long applicationId, Long userId);
+
+    /**
+     * Number of attachments of an application
+     */
+    long countByApplicationId(Long applicationId);
+
+    /**
+     * Which of these content hashes are still referenced (blob garbage collection)
+     */
+    @Query("SELECT DISTINCT a.contentHash FROM Attachment a WHERE a.contentHash IN :hashes")
+    List<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+
+    /**
+     * Move a user's attachments of merged applications to the one that was kept
+     */
+    @Modifying
+    @Query("UPDATE Attachment a SET a.applicationId = :keptId " +
+            "WHERE a.userId = :userId AND a.applicationId IN :mergedIds")
+    int reassignApplication(
+            @Param("userId") Long userId,
+            @Param("mergedIds") Collection<Long> mergedIds,
+            @Param("keptId") Long keptId);
+}
@@ -0,0 +1,50 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+    /**
+     * Insert a key without a response yet
+     * A plain INSERT, so a key another transaction holds waits for it and
+     * then fails if that transaction commits
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys "
+            + "(user_id, idempotency_key, request_hash, created_at, expires_at) "
+            + "VALUES (:userId, :key, :requestHash, :now, :expiresAt)", nativeQuery = true)
+    int claim(
+            @Param("userId") Long userId,
+            @Param("key") String key,
+            @Param("requestHash") String requestHash,
+            @Param("now") LocalDateTime now,
+            @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Record the response of a claimed key
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.responseBody = :body "
+            + "WHERE r.userId = :userId AND r.idempotencyKey = :key")
+    int complete(@Param("userId") Long userId, @Param("key") String key, @Param("body") String body);
+
+    /**
+     * Remove one key if it has expired, so it can be used again
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r "
+            + "WHERE r.userId = :userId AND r.idempotencyKey = :key AND r.expiresAt < :now")
+    int deleteIfExpired(@Param("userId") Long userId, @Param("key") String key, @Param("now") LocalDateTime now);
+
+    /**
+     * Remove keys past their expiry
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -6,30 +6,21 @@ import com.jobtracker.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long>,
+        JpaSpecificationExecutor<JobApplication> {
 
-    /**
-     * Find all applications for a user (excluding soft-deleted)
-     * With pagination support
-     */
-    Page<JobApplication> findByUserAndDeletedFalse(User user, Pageable pageable);
-
-    /**
-     * Find applications by user and status
-     * Used for filtering by status (APPLIED, INTERVIEW, OFFER, REJECTED)
-     */
-    Page<JobApplication> findByUserAndStatusAndDeletedFalse(
-            User user,
-            ApplicationStatus status,
-            Pageable pageable);
+    // List queries with filters are built from JobApplicationSpecifications
 
     /**
      * Find a specific application by ID and user
@@ -38,17 +29,10 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     Optional<JobApplication> findByIdAndUserAndDeletedFalse(Long id, User user);
 
     /**
-     * Search applications by company or role name
-     * Custom JPQL query for flexible searching
+     * Check that an application exists and belongs to the user
+     * Works on the user id, so the caller doesn't need to load the User
      */
-    @Query("SELECT ja FROM JobApplication ja WHERE ja.user = :user " +
-            "AND ja.deleted = false " +
-            "AND (LOWER(ja.company) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(ja.role) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<JobApplication> searchByKeyword(
-            @Param("user") User user,
-            @Param("keyword") String keyword,
-            Pageable pageable);
+    boolean existsByIdAndUser_IdAndDeletedFalse(Long id, Long userId);
 
     /**
      * Count applications by status for a user
@@ -62,7 +46,114 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     long countByUserAndDeletedFalse(User user);
 
     /**
-     * Find all applications for a user (for admin purposes - future feature)
+     * Application counts per status for a user, in one grouped query
+     * Served by the (user_id, deleted, status) index
+     */
+    @Query("SELECT ja.status AS status, COUNT(ja) AS count FROM JobApplication ja " +
+            "WHERE ja.user.id = :userId AND ja.deleted = false GROUP BY ja.status")
+    List<StatusCount> countByStatus(@Param("userId") Long userId);
+
+    /**
+     * Distinct company names of a user with how often each is used
+     */
+    @Query("SELECT ja.company AS value, COUNT(ja) AS count FROM JobApplication ja " +
+            "WHERE ja.user.id = :userId AND ja.deleted = false GROUP BY ja.company")
+    List<ValueCount> countByCompany(@Param("userId") Long userId);
+
+    /**
+     * Distinct role names of a user with how often each is used
+     */
+    @Query("SELECT ja.role AS value, COUNT(ja) AS count FROM JobApplication ja " +
+            "WHERE ja.user.id = :userId AND ja.deleted = false GROUP BY ja.role")
+    List<ValueCount> countByRole(@Param("userId") Long userId);
+
+    /**
+     * Ids of a user's applications with a duplicate key, oldest first
+     * Probe on the (user_id, deleted, dedupe_key) index; callers ask for one row
+     */
+    @Query("SELECT ja.id FROM JobApplication ja WHERE ja.user.id = :userId AND ja.deleted = false " +
+            "AND ja.dedupeKey = :dedupeKey ORDER BY ja.id")
+    List<Long> findIdsByDedupeKey(
+            @Param("userId") Long userId,
+            @Param("dedupeKey") String dedupeKey,
+            Pageable pageable);
+
+    /**
+     * A user's applications that share their duplicate key with another one,
+     * ordered so that each group is contiguous and starts with its oldest row
+     */
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.user.id = :userId AND ja.deleted = false " +
+            "AND ja.dedupeKey IN (SELECT d.dedupeKey FROM JobApplication d " +
+            "WHERE d.user.id = :userId AND d.deleted = false GROUP BY d.dedupeKey HAVING COUNT(d) > 1) " +
+            "ORDER BY ja.dedupeKey, ja.id")
+    List<JobApplication> findDuplicates(@Param("userId") Long userId);
+
+    /**
+     * A user's applications marked as duplicates of any of the given ones
+     */
+    List<JobApplication> findAllByUser_IdAndDuplicateOfInAndDeletedFalse(Long userId, Collection<Long> duplicateOf);
+
+    /**
+     * One page of a user's applications, without the count query
+     * (the dashboard takes the total from the status counts)
      */
-    List<JobApplication> findAllByUserAndDeletedFalse(User user);
+    List<JobApplication> findAllByUser_IdAndDeletedFalse(Long userId, Pageable pageable);
+
+    /**
+     * One page of a user's applications with a status, without the count query
+     */
+    List<JobApplication> findAllByUser_IdAndStatusAndDeletedFalse(
+            Long userId,
+            ApplicationStatus status,
+            Pageable pageable);
+
+    /**
+     * Applications whose follow-up check is due, oldest first
+     * Range scan on the next_reminder_at index; only the columns the
+     * reminder job needs are selected
+     */
+    @Query("SELECT ja.id AS id, ja.user.id AS userId, ja.company AS company, ja.role AS role, " +
+            "ja.status AS status, ja.deleted AS deleted, ja.updatedAt AS updatedAt, " +
+            "ja.nextReminderAt AS nextReminderAt " +
+            "FROM JobApplication ja WHERE ja.nextReminderAt <= :now ORDER BY ja.nextReminderAt")
+    List<DueReminder> findDueReminders(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Projection used for statistics
+     */
+    interface StatusCount {
+        ApplicationStatus getStatus();
+
+        long getCount();
+    }
+
+    /**
+     * Projection used for typeahead suggestions
+     */
+    interface ValueCount {
+        String getValue();
+
+        long getCount();
+    }
+
+    /**
+     * Projection used by the reminder job
+     */
+    interface DueReminder {
+        Long getId();
+
+        Long getUserId();
+
+        String getCompany();
+
+        String getRole();
+
+        ApplicationStatus getStatus();
+
+        Boolean getDeleted();
+
+        LocalDateTime getUpdatedAt();
+
+        LocalDateTime getNextReminderAt();
+    }
 }
\ No newline at end of file
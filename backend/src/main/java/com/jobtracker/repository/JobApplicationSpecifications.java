@@ -0,0 +1,97 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.dto.JobApplicationDTOs.ApplicationFilter;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.JobApplication;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * JobApplicationSpecifications
+ * Composable WHERE clauses for listing a user's applications
+ *
+ * forUser(userId, filter) ANDs together only the filters that are set, so
+ * any combination becomes one SELECT (plus its COUNT). Every query starts
+ * with user_id and deleted, the leading columns of the per-user indexes.
+ */
+public final class JobApplicationSpecifications {
+
+    private JobApplicationSpecifications() {
+    }
+
+    /**
+     * The user's live applications matching every filter that is set
+     */
+    public static Specification<JobApplication> forUser(Long userId, ApplicationFilter filter) {
+        return Specification.where(ownedBy(userId))
+                .and(notDeleted())
+                .and(statusIn(filter.getStatus()))
+                .and(keyword(filter.getKeyword()))
+                .and(appliedBetween(filter.getAppliedFrom(), filter.getAppliedTo()))
+                .and(updatedBetween(filter.getUpdatedFrom(), filter.getUpdatedTo()));
+    }
+
+    public static Specification<JobApplication> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<JobApplication> notDeleted() {
+        return (root, query, cb) -> cb.isFalse(root.get("deleted"));
+    }
+
+    public static Specification<JobApplication> statusIn(Collection<ApplicationStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> statuses.size() == 1
+                ? cb.equal(root.get("status"), statuses.iterator().next())
+                : root.get("status").in(statuses);
+    }
+
+    /**
+     * Company or role contains the keyword, case-insensitively
+     */
+    public static Specification<JobApplication> keyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(keyword.trim().toLowerCase()) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("company")), pattern, '\\'),
+                cb.like(cb.lower(root.get("role")), pattern, '\\'));
+    }
+
+    public static Specification<JobApplication> appliedBetween(LocalDate from, LocalDate to) {
+        return between("dateApplied", from, to);
+    }
+
+    public static Specification<JobApplication> updatedBetween(LocalDateTime from, LocalDateTime to) {
+        return between("updatedAt", from, to);
+    }
+
+    /**
+     * Inclusive range; either end may be open
+     */
+    private static <T extends Comparable<? super T>> Specification<JobApplication> between(
+            String attribute, T from, T to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThanOrEqualTo(root.<T>get(attribute), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.<T>get(attribute), from);
+            }
+            return cb.between(root.<T>get(attribute), from, to);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,28 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.OrganizationInvitation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Pending organisation invitations; used on the directory shard only
+ */
+public interface OrganizationInvitationRepository extends JpaRepository<OrganizationInvitation, Long> {
+    /**
+     * A user's pending invitations, oldest first
+     */
+    List<OrganizationInvitation> findByUserIdOrderByCreatedAt(Long userId);
+
+    boolean existsByOrganizationIdAndUserId(Long organizationId, Long userId);
+
+    /**
+     * Drop all of a user's invitations (once they joined an organisation)
+     */
+    @Modifying
+    @Query("DELETE FROM OrganizationInvitation i WHERE i.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,71 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.OrganizationMember;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Organisation members and their rollups; used on the directory shard only
+ */
+public interface OrganizationMemberRepository extends JpaRepository<OrganizationMember, Long> {
+    /**
+     * One page of an organisation's members
+     * Range scan on the (organization_id, username) index
+     */
+    Page<OrganizationMember> findByOrganizationId(Long organizationId, Pageable pageable);
+
+    /**
+     * Organisation-wide totals, summed from the member rollups
+     */
+    @Query("SELECT COUNT(m) AS members, COALESCE(SUM(m.applied), 0) AS applied, " +
+            "COALESCE(SUM(m.interview), 0) AS interview, COALESCE(SUM(m.offer), 0) AS offer, " +
+            "COALESCE(SUM(m.rejected), 0) AS rejected, COALESCE(SUM(m.total), 0) AS total " +
+            "FROM OrganizationMember m WHERE m.organizationId = :organizationId")
+    OrganizationTotals sumByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * Member ids in id order, from the one after afterUserId (for walking all members)
+     */
+    @Query("SELECT m.userId FROM OrganizationMember m WHERE m.userId > :afterUserId ORDER BY m.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    /**
+     * Store a member's current application counts
+     */
+    @Modifying
+    @Query("UPDATE OrganizationMember m SET m.applied = :applied, m.interview = :interview, " +
+            "m.offer = :offer, m.rejected = :rejected, m.total = :total, m.statsUpdatedAt = :now " +
+            "WHERE m.userId = :userId")
+    int updateStats(
+            @Param("userId") Long userId,
+            @Param("applied") long applied,
+            @Param("interview") long interview,
+            @Param("offer") long offer,
+            @Param("rejected") long rejected,
+            @Param("total") long total,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Projection used for organisation statistics
+     */
+    interface OrganizationTotals {
+        long getMembers();
+
+        long getApplied();
+
+        long getInterview();
+
+        long getOffer();
+
+        long getRejected();
+
+        long getTotal();
+    }
+}
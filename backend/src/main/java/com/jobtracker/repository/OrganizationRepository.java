@@ -0,0 +1,10 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.Organization;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Organisations; used on the directory shard only
+ */
+public interface OrganizationRepository extends JpaRepository<Organization, Long> {
+}
@@ -0,0 +1,19 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * Pending events after the given id, oldest first (insertion order =
+     * commit order per user), skipping dead-lettered ones
+     * Used by the relay to drain the outbox in batches
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id > :after AND e.deadLetteredAt IS NULL ORDER BY e.id")
+    List<OutboxEvent> findPendingAfter(@Param("after") long after, Pageable pageable);
+}
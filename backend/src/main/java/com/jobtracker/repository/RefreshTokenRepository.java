@@ -0,0 +1,45 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    /**
+     * Find a token by hash, locked so two concurrent refreshes cannot both rotate it
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Revoke every token of a login session
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.familyId = :familyId AND t.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * Mark every live token of a login session as rotated, ahead of issuing
+     * its replacement
+     *
+     * @return how many were live; 0 means the session was logged out
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true, t.rotatedAt = :now "
+            + "WHERE t.familyId = :familyId AND t.revoked = false")
+    int supersedeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Remove tokens that can no longer be used
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,35 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.Reminder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ReminderRepository extends JpaRepository<Reminder, Long> {
+    /**
+     * Pending (not dismissed) reminders for a user
+     */
+    Page<Reminder> findByUserIdAndDismissedFalse(Long userId, Pageable pageable);
+
+    /**
+     * Find a reminder by ID and owner
+     */
+    Optional<Reminder> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Point a user's reminders for merged applications at the one that was kept
+     */
+    @Modifying
+    @Query("UPDATE Reminder r SET r.applicationId = :keptId " +
+            "WHERE r.userId = :userId AND r.applicationId IN :mergedIds")
+    int reassignApplication(
+            @Param("userId") Long userId,
+            @Param("mergedIds") Collection<Long> mergedIds,
+            @Param("keptId") Long keptId);
+}
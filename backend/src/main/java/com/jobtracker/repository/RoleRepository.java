@@ -3,6 +3,8 @@ package com.jobtracker.repository;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 
 import com.jobtracker.entity.ERole;
 import com.jobtracker.entity.Role;
@@ -11,6 +13,11 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
     /**
      * Find role by name (ROLE_USER, ROLE_ADMIN)
      * JPA automatically creates: SELECT * FROM roles WHERE name = ?
+     * Result is kept in the query cache; roles never change at runtime
      */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = "role-lookups")
+    })
     Optional<Role> findByName(ERole name);
 }
@@ -0,0 +1,19 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.User;
+
+import java.util.Optional;
+
+/**
+ * UserRepositoryCustom
+ * User lookups that go through Hibernate's natural-id API
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Find user by username
+     * Resolved through the natural-id cache, so a warm lookup (user, roles
+     * and all) needs no SQL; called on every authenticated request
+     */
+    Optional<User> findByUsername(String username);
+}
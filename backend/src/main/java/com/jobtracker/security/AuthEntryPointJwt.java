@@ -1,19 +1,19 @@
 package com.jobtracker.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.config.JsonWriters;
+import com.jobtracker.logging.LogRateLimiter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
 
 /**
  * AuthEntryPointJwt
@@ -26,21 +26,22 @@ public class AuthEntryPointJwt implements AuthenticationEntryPoint {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthEntryPointJwt.class);
 
+    // Any client can trigger this at will, so cap the log volume
+    private static final LogRateLimiter unauthorizedLog = new LogRateLimiter(10, Duration.ofSeconds(1));
+
+    @Autowired
+    private JsonWriters jsonWriters;
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
             AuthenticationException authException) throws IOException, ServletException {
-        logger.error("Unauthorized error: {}", authException.getMessage());
-
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
-        final Map<String, Object> body = new HashMap<>();
-        body.put("status", HttpServletResponse.SC_UNAUTHORIZED);
-        body.put("error", "Unauthorized");
-        body.put("message", authException.getMessage());
-        body.put("path", request.getServletPath());
-
-        final ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(response.getOutputStream(), body);
+        long suppressed = unauthorizedLog.tryAcquire();
+        if (suppressed >= 0) {
+            logger.warn("Unauthorized error: {} ({} similar messages suppressed)",
+                    authException.getMessage(), suppressed);
+        }
+
+        jsonWriters.writeError(response, HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized",
+                authException.getMessage(), request.getServletPath());
     }
 }
\ No newline at end of file
@@ -1,5 +1,11 @@
 package com.jobtracker.security;
 
+import com.jobtracker.config.JsonWriters;
+import com.jobtracker.exception.CustomExceptions;
+import com.jobtracker.logging.LogRateLimiter;
+import com.jobtracker.sharding.ShardContext;
+import com.jobtracker.sharding.ShardRouter;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +13,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +22,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 
 /**
  * AuthTokenFilter
@@ -26,14 +34,31 @@ import java.io.IOException;
  */
 public class AuthTokenFilter extends OncePerRequestFilter {
 
+    /**
+     * Request attribute holding the Claims of the access token that
+     * authenticated the request
+     */
+    public static final String CLAIMS_ATTRIBUTE = AuthTokenFilter.class.getName() + ".claims";
+
     @Autowired
     private JwtUtils jwtUtils;
 
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private JsonWriters jsonWriters;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
+    private static final LogRateLimiter authFailureLog = new LogRateLimiter(10, Duration.ofSeconds(1));
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -42,8 +67,12 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             String jwt = parseJwt(request);
 
             // Validate and set authentication
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            Claims claims = jwt != null ? jwtUtils.parseJwtToken(jwt) : null;
+            if (claims != null && !revocationList.isRevoked(claims.getId(), claims.getExpiration())) {
+                String username = claims.getSubject();
+
+                // Everything this request does in the database goes to the user's shard
+                ShardContext.set(shardRouter.shardForUsername(username));
 
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -51,12 +80,28 @@ public class AuthTokenFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                request.setAttribute(CLAIMS_ATTRIBUTE, claims);
             }
+        } catch (CustomExceptions.ServiceUnavailableException e) {
+            // User is being moved between shards
+            ShardContext.clear();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "5");
+            jsonWriters.writeError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Service Unavailable",
+                    e.getMessage(), request.getServletPath());
+            return;
         } catch (Exception e) {
-            logger.error("Cannot set user authentication: {}", e.getMessage());
+            long suppressed = authFailureLog.tryAcquire();
+            if (suppressed >= 0) {
+                logger.error("Cannot set user authentication: {} ({} similar messages suppressed)",
+                        e.getMessage(), suppressed);
+            }
         }
 
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ShardContext.clear();
+        }
     }
 
     /**
@@ -1,15 +1,22 @@
 package com.jobtracker.security;
 
+import com.jobtracker.logging.LogRateLimiter;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * JwtUtils
@@ -23,24 +30,63 @@ public class JwtUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
+    // Bad tokens are client input: log a few per second at most
+    private static final LogRateLimiter rejectedTokenLog = new LogRateLimiter(10, Duration.ofSeconds(1));
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer generateTimer;
+    private Timer validateTimer;
+    private Timer parseTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        generateTimer = jwtTimer("generate");
+        validateTimer = jwtTimer("validate");
+        parseTimer = jwtTimer("parse");
+    }
+
+    private Timer jwtTimer(String operation) {
+        return Timer.builder("security.jwt")
+                .description("JWT signing and verification time")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     /**
      * Generate JWT token from authenticated user
      */
     public String generateJwtToken(Authentication authentication) {
         UserDetailsImpl userPrincipal = (UserDetailsImpl) authentication.getPrincipal();
+        return generateJwtToken(userPrincipal.getUsername());
+    }
 
-        return Jwts.builder()
-                .setSubject(userPrincipal.getUsername())
+    /**
+     * Generate a short-lived access token with a unique id (jti) for revocation
+     */
+    public String generateJwtToken(String username) {
+        return generateTimer.record(() -> Jwts.builder()
+                .setSubject(username)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS512)
-                .compact();
+                .compact());
+    }
+
+    /**
+     * Access token lifetime in seconds (the expires_in of a login/refresh response)
+     */
+    public long getExpirationSeconds() {
+        return jwtExpirationMs / 1000L;
     }
 
     /**
@@ -55,12 +101,12 @@ public class JwtUtils {
      * Get username from JWT token
      */
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
+        return parseTimer.record(() -> Jwts.parserBuilder()
                 .setSigningKey(getSigningKey())
                 .build()
                 .parseClaimsJws(token)
                 .getBody()
-                .getSubject();
+                .getSubject());
     }
 
     /**
@@ -68,23 +114,42 @@ public class JwtUtils {
      * Returns true if token is valid, false otherwise
      */
     public boolean validateJwtToken(String authToken) {
+        return parseJwtToken(authToken) != null;
+    }
+
+    /**
+     * Validate a token and return its claims (subject, jti, expiry) in one parse
+     * Returns null if the token is invalid
+     */
+    public Claims parseJwtToken(String authToken) {
+        return validateTimer.record(() -> parse(authToken));
+    }
+
+    private Claims parse(String authToken) {
         try {
-            Jwts.parserBuilder()
+            return Jwts.parserBuilder()
                     .setSigningKey(getSigningKey())
                     .build()
-                    .parseClaimsJws(authToken);
-            return true;
+                    .parseClaimsJws(authToken)
+                    .getBody();
         } catch (SecurityException e) {
-            logger.error("Invalid JWT signature: {}", e.getMessage());
+            logRejected("Invalid JWT signature", e);
         } catch (MalformedJwtException e) {
-            logger.error("Invalid JWT token: {}", e.getMessage());
+            logRejected("Invalid JWT token", e);
         } catch (ExpiredJwtException e) {
-            logger.error("JWT token is expired: {}", e.getMessage());
+            logRejected("JWT token is expired", e);
         } catch (UnsupportedJwtException e) {
-            logger.error("JWT token is unsupported: {}", e.getMessage());
+            logRejected("JWT token is unsupported", e);
         } catch (IllegalArgumentException e) {
-            logger.error("JWT claims string is empty: {}", e.getMessage());
+            logRejected("JWT claims string is empty", e);
+        }
+        return null;
+    }
+
+    private void logRejected(String reason, Exception e) {
+        long suppressed = rejectedTokenLog.tryAcquire();
+        if (suppressed >= 0) {
+            logger.warn("{}: {} ({} similar messages suppressed)", reason, e.getMessage(), suppressed);
         }
-        return false;
     }
 }
\ No newline at end of file
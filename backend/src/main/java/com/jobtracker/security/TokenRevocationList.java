@@ -0,0 +1,91 @@
+package com.jobtracker.security;
+
+import com.jobtracker.cluster.ClusterBus;
+import com.jobtracker.cluster.ClusterMessage;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * TokenRevocationList
+ * Access tokens (by jti) revoked before they expire, e.g. on logout
+ *
+ * A revoked id only has to be remembered until its token expires, and
+ * access tokens are short-lived, so ids are kept in buckets keyed by the
+ * token's expiry minute. A check looks only at the bucket for the token's
+ * own expiry, and is a single lookup in an empty map when nothing has
+ * been revoked. Expired buckets are dropped whole.
+ *
+ * The list is held per node; a revocation is published to the other nodes
+ * through the ClusterBus. The refresh token is revoked in the database, so
+ * even if that message is lost a logged-out session cannot outlive its
+ * current access token.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final long BUCKET_MS = 60_000;
+
+    @Autowired
+    private ClusterBus clusterBus;
+
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    @PostConstruct
+    void init() {
+        // Published as "jti@expiryMillis"; the jti is a UUID, so the last '@' splits it
+        clusterBus.subscribe(ClusterMessage.Topic.TOKEN_REVOKED, key -> {
+            int at = key.lastIndexOf('@');
+            add(key.substring(0, at), new Date(Long.parseLong(key.substring(at + 1))));
+        });
+    }
+
+    /**
+     * Reject this token id until the token expires, on every node
+     */
+    public void revoke(String jti, Date expiresAt) {
+        if (add(jti, expiresAt)) {
+            clusterBus.publish(ClusterMessage.Topic.TOKEN_REVOKED, jti + "@" + expiresAt.getTime());
+        }
+    }
+
+    public boolean isRevoked(String jti, Date expiresAt) {
+        if (buckets.isEmpty() || jti == null) {
+            return false;
+        }
+        Set<String> bucket = buckets.get(bucket(expiresAt));
+        return bucket != null && bucket.contains(jti);
+    }
+
+    public int size() {
+        return buckets.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Drop buckets whose tokens have all expired
+     */
+    @Scheduled(fixedRate = BUCKET_MS)
+    public void purgeExpired() {
+        Map<Long, Set<String>> expired = buckets.headMap(bucket(new Date()));
+        expired.clear();
+    }
+
+    private boolean add(String jti, Date expiresAt) {
+        if (jti == null || expiresAt.getTime() <= System.currentTimeMillis()) {
+            return false;
+        }
+        buckets.computeIfAbsent(bucket(expiresAt), minute -> ConcurrentHashMap.newKeySet()).add(jti);
+        return true;
+    }
+
+    private static long bucket(Date expiresAt) {
+        return expiresAt.getTime() / BUCKET_MS;
+    }
+}
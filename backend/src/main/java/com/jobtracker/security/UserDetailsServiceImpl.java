@@ -2,6 +2,9 @@ package com.jobtracker.security;
 
 import com.jobtracker.entity.User;
 import com.jobtracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -21,12 +24,27 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer loadTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        loadTimer = Timer.builder("security.user.load")
+                .description("Time to load a user principal by username")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
+        return loadTimer.record(() -> {
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + username));
 
-        return UserDetailsImpl.build(user);
+            return UserDetailsImpl.build(user);
+        });
     }
 }
\ No newline at end of file
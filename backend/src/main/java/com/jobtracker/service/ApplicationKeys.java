@@ -0,0 +1,85 @@
+package com.jobtracker.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * ApplicationKeys
+ * Normalized forms of company and role names
+ *
+ * normalize() is what typeahead matches on; dedupeKey() additionally drops
+ * legal suffixes from company names and expands common role abbreviations,
+ * so "Google LLC / Sr. Engineer" and "google / Senior Engineer" share a key.
+ */
+public final class ApplicationKeys {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> COMPANY_SUFFIXES = Set.of(
+            "inc", "llc", "ltd", "limited", "corp", "corporation", "co", "company", "gmbh", "ag", "sa", "plc");
+
+    private static final Map<String, String> ROLE_ABBREVIATIONS = Map.of(
+            "sr", "senior",
+            "snr", "senior",
+            "jr", "junior",
+            "eng", "engineer",
+            "dev", "developer",
+            "mgr", "manager",
+            "swe", "software engineer");
+
+    private ApplicationKeys() {
+    }
+
+    /**
+     * Lower case, without accents, punctuation as single spaces
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return NON_WORD.matcher(stripped.toLowerCase()).replaceAll(" ").trim();
+    }
+
+    /**
+     * SHA-256 (hex) of the normalized company and role, for the duplicate index
+     */
+    public static String dedupeKey(String company, String role) {
+        String key = companyKey(company) + '\n' + roleKey(role);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String companyKey(String company) {
+        String[] words = normalize(company).split(" ");
+        int end = words.length;
+        // Keep at least one word, so a company called just "Co" still has a key
+        while (end > 1 && COMPANY_SUFFIXES.contains(words[end - 1])) {
+            end--;
+        }
+        return String.join(" ", Arrays.copyOf(words, end));
+    }
+
+    private static String roleKey(String role) {
+        StringBuilder key = new StringBuilder();
+        for (String word : normalize(role).split(" ")) {
+            if (key.length() > 0) {
+                key.append(' ');
+            }
+            key.append(ROLE_ABBREVIATIONS.getOrDefault(word, word));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,395 @@
+package com.jobtracker.service;
+
+import com.jobtracker.cluster.ClusterBus;
+import com.jobtracker.cluster.ClusterMessage;
+import com.jobtracker.dto.JobApplicationDTOs.JobApplicationResponse;
+import com.jobtracker.event.ApplicationChangeEvent;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.security.TokenRevocationList;
+import com.jobtracker.sharding.ShardContext;
+import com.jobtracker.sharding.ShardRouter;
+import com.jobtracker.sharding.ShardSafeIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ApplicationStreamService
+ * Server-Sent Events change feed for job applications
+ *
+ * Committed ApplicationChangeEvents are numbered, kept in a small per-user
+ * buffer for Last-Event-ID resume, and pushed to the owner's open streams.
+ * Changes made on other nodes arrive as ClusterBus STREAM messages, so a
+ * stream sees every write whichever node handled it. Event ids are unique
+ * across nodes (ShardSafeIdGenerator) and every node buffers the same
+ * events, so a client can resume on any node: it gets what follows its
+ * Last-Event-ID in that node's buffer, or a "resync" if the id is no longer
+ * there. A remote change carries no data; the application is read once,
+ * when the event is first sent.
+ * A user's buffer and streams change only inside that user's map entry, so
+ * users never wait on each other. Each stream has a bounded queue drained
+ * on a virtual thread; a stream whose queue fills up or whose send stalls
+ * is disconnected (it resumes from its last id) instead of buffering
+ * without limit.
+ *
+ * A stream lives no longer than the access token that opened it, and is
+ * closed within one heartbeat once that token is revoked.
+ */
+@Service
+public class ApplicationStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationStreamService.class);
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private ClusterBus clusterBus;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${stream.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${stream.replay-size:64}")
+    private int replaySize;
+
+    @Value("${stream.replay-idle-ms:300000}")
+    private long replayIdleMs;
+
+    @Value("${stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    // user id -> recent events and open streams; only changed inside compute for that user
+    private final Map<Long, Feed> feeds = new ConcurrentHashMap<>();
+
+    private ExecutorService senders;
+    private TransactionTemplate readTemplate;
+
+    @PostConstruct
+    void init() {
+        senders = Executors.newVirtualThreadPerTaskExecutor();
+        readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+        clusterBus.subscribe(ClusterMessage.Topic.STREAM, this::onRemoteChange);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        feeds.values().forEach(feed -> feed.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /**
+     * Open a stream for a user, authorised by the access token with this id
+     * and expiry
+     * If lastEventId is given, the events buffered after it are replayed
+     * first; if it is no longer buffered a "resync" event tells the client
+     * to refetch.
+     */
+    public SseEmitter subscribe(Long userId, String tokenId, Date tokenExpiresAt, Long lastEventId) {
+        long timeout = Math.min(timeoutMs, tokenExpiresAt.getTime() - System.currentTimeMillis());
+        Subscriber subscriber = new Subscriber(userId, tokenId, tokenExpiresAt, new SseEmitter(Math.max(timeout, 1)));
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+
+        feeds.compute(userId, (id, existing) -> {
+            Feed feed = existing != null ? existing : new Feed();
+            if (lastEventId != null) {
+                replay(feed, subscriber, lastEventId);
+            }
+            feed.subscribers.add(subscriber);
+            return feed;
+        });
+        subscriber.schedule();
+
+        return subscriber.emitter;
+    }
+
+    /**
+     * Fan a change committed on this node out to the owner's open streams,
+     * here and on the other nodes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChange(ApplicationChangeEvent change) {
+        long eventId = ShardSafeIdGenerator.nextId();
+        fanOut(new StreamEvent(eventId, change.getUserId(), change.getType(), change.getApplicationId(), change));
+        clusterBus.publish(ClusterMessage.Topic.STREAM, eventId + ":" + change.getUserId() + ":"
+                + change.getApplicationId() + ":" + change.getType());
+    }
+
+    /**
+     * Keep proxies and load balancers from closing idle streams, close
+     * streams whose token was revoked or whose client stopped reading, and
+     * forget buffers of users nobody is following
+     */
+    @Scheduled(fixedRateString = "${stream.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        long now = System.currentTimeMillis();
+        for (Feed feed : feeds.values()) {
+            for (Subscriber subscriber : feed.subscribers) {
+                if (revocationList.isRevoked(subscriber.tokenId, subscriber.tokenExpiresAt)) {
+                    close(subscriber, "token revoked");
+                } else if (subscriber.isStalled(now)) {
+                    close(subscriber, "send stalled");
+                } else {
+                    subscriber.heartbeat();
+                }
+            }
+        }
+
+        feeds.keySet().forEach(userId -> feeds.computeIfPresent(userId, (id, feed) ->
+                feed.subscribers.isEmpty() && feed.lastEventAt < now - replayIdleMs ? null : feed));
+    }
+
+    private void onRemoteChange(String key) {
+        String[] parts = key.split(":");
+        ApplicationChangeEvent.Type type = ApplicationChangeEvent.Type.valueOf(parts[3]);
+        Long userId = Long.valueOf(parts[1]);
+        Long applicationId = Long.valueOf(parts[2]);
+        // Only a delete is complete without data; the others are read when first sent
+        ApplicationChangeEvent change = type == ApplicationChangeEvent.Type.DELETED
+                ? new ApplicationChangeEvent(type, userId, applicationId, null)
+                : null;
+        fanOut(new StreamEvent(Long.parseLong(parts[0]), userId, type, applicationId, change));
+    }
+
+    private void fanOut(StreamEvent event) {
+        List<Subscriber> overflowed = new ArrayList<>();
+        List<Subscriber> ready = new ArrayList<>();
+
+        feeds.compute(event.userId, (id, existing) -> {
+            Feed feed = existing != null ? existing : new Feed();
+            feed.add(event, replaySize);
+
+            for (Subscriber subscriber : feed.subscribers) {
+                (subscriber.queue.offer(event) ? ready : overflowed).add(subscriber);
+            }
+            overflowed.forEach(feed.subscribers::remove);
+            return feed;
+        });
+
+        ready.forEach(Subscriber::schedule);
+        overflowed.forEach(subscriber -> close(subscriber, "buffer full"));
+    }
+
+    private void replay(Feed feed, Subscriber subscriber, long lastEventId) {
+        boolean found = false;
+        boolean overflowed = false;
+        for (StreamEvent event : feed.recent) {
+            if (found && !subscriber.queue.offer(event)) {
+                // More missed than a stream can queue: let the client refetch instead
+                overflowed = true;
+                break;
+            }
+            found |= event.id == lastEventId;
+        }
+        if (!found || overflowed) {
+            subscriber.queue.clear();
+            subscriber.queue.offer(StreamEvent.resync(subscriber.userId, feed.recent.peekLast()));
+        }
+    }
+
+    /**
+     * The change an event reports, reading the application on its owner's
+     * shard if the event came from another node
+     */
+    private Object dataOf(StreamEvent event) {
+        if (event.data == null && event.type != null) {
+            try {
+                JobApplicationResponse response = ShardContext.callOn(shardRouter.shardForUserId(event.userId),
+                        () -> readTemplate.execute(status -> jobApplicationRepository.findById(event.applicationId)
+                                .filter(application -> !Boolean.TRUE.equals(application.getDeleted()))
+                                .map(JobApplicationResponse::new)
+                                .orElse(null)));
+                if (response != null) {
+                    response.setNotes(null);
+                }
+                event.data = new ApplicationChangeEvent(event.type, event.userId, event.applicationId, response);
+            } catch (RuntimeException e) {
+                // Still worth sending: the client refetches the application itself
+                logger.warn("Could not read application {} for its stream event: {}",
+                        event.applicationId, e.getMessage());
+                return new ApplicationChangeEvent(event.type, event.userId, event.applicationId, null);
+            }
+        }
+        return event.data;
+    }
+
+    private void remove(Subscriber subscriber) {
+        feeds.computeIfPresent(subscriber.userId, (id, feed) -> {
+            feed.subscribers.remove(subscriber);
+            return feed;
+        });
+    }
+
+    private void close(Subscriber subscriber, String reason) {
+        logger.debug("Closing SSE stream for user {}: {}", subscriber.userId, reason);
+        remove(subscriber);
+        subscriber.queue.clear();
+        // complete() waits for a send in progress, so never call it on a scheduler thread
+        senders.execute(subscriber.emitter::complete);
+    }
+
+    /**
+     * One event of a feed; a heartbeat has no type and no name
+     */
+    private static final class StreamEvent {
+
+        private final long id;
+        private final Long userId;
+        private final ApplicationChangeEvent.Type type;
+        private final String name;
+        private final Long applicationId;
+        // Read lazily for changes made on other nodes
+        private volatile Object data;
+
+        private StreamEvent(long id, Long userId, ApplicationChangeEvent.Type type, Long applicationId, Object data) {
+            this(id, userId, type, type.name().toLowerCase(), applicationId, data);
+        }
+
+        private StreamEvent(long id, Long userId, ApplicationChangeEvent.Type type, String name,
+                Long applicationId, Object data) {
+            this.id = id;
+            this.userId = userId;
+            this.type = type;
+            this.name = name;
+            this.applicationId = applicationId;
+            this.data = data;
+        }
+
+        static StreamEvent heartbeat(Long userId) {
+            return new StreamEvent(0, userId, null, null, null, null);
+        }
+
+        // Carries the newest buffered id, if any, so the next resume starts there
+        static StreamEvent resync(Long userId, StreamEvent newest) {
+            return new StreamEvent(newest != null ? newest.id : 0, userId, null, "resync", null, Map.of());
+        }
+    }
+
+    /**
+     * Recent events of one user and the user's open streams
+     */
+    private static final class Feed {
+
+        private final ArrayDeque<StreamEvent> recent = new ArrayDeque<>();
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private long lastEventAt = System.currentTimeMillis();
+
+        void add(StreamEvent event, int capacity) {
+            recent.addLast(event);
+            if (recent.size() > capacity) {
+                recent.removeFirst();
+            }
+            lastEventAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * One open stream: a bounded queue plus a flag so at most one sender
+     * thread drains it at a time (keeps events in order)
+     */
+    private final class Subscriber {
+
+        private final Long userId;
+        private final String tokenId;
+        private final Date tokenExpiresAt;
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // When the send in progress started, or 0
+        private volatile long sendingSince;
+
+        private Subscriber(Long userId, String tokenId, Date tokenExpiresAt, SseEmitter emitter) {
+            this.userId = userId;
+            this.tokenId = tokenId;
+            this.tokenExpiresAt = tokenExpiresAt;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void heartbeat() {
+            // Only needed when nothing else is waiting to go out
+            if (queue.isEmpty() && queue.offer(StreamEvent.heartbeat(userId))) {
+                schedule();
+            }
+        }
+
+        boolean isStalled(long now) {
+            long since = sendingSince;
+            return since != 0 && now - since > sendTimeoutMs;
+        }
+
+        private void schedule() {
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                while ((event = queue.poll()) != null) {
+                    sendingSince = System.currentTimeMillis();
+                    SseEmitter.SseEventBuilder message;
+                    if (event.name == null) {
+                        message = SseEmitter.event().comment("heartbeat");
+                    } else {
+                        message = SseEmitter.event().name(event.name).data(dataOf(event), MediaType.APPLICATION_JSON);
+                        if (event.id != 0) {
+                            message.id(String.valueOf(event.id));
+                        }
+                    }
+                    emitter.send(message);
+                    sendingSince = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("SSE stream for user {} closed: {}", userId, e.getMessage());
+                queue.clear();
+                remove(this);
+            } finally {
+                sendingSince = 0;
+                draining.set(false);
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
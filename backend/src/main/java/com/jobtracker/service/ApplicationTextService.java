@@ -0,0 +1,100 @@
+package com.jobtracker.service;
+
+import com.jobtracker.entity.ApplicationText;
+import com.jobtracker.repository.ApplicationTextRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * ApplicationTextService
+ * Long-form text of applications (notes), stored in application_texts
+ *
+ * Texts of at least notes.compress-min-bytes (UTF-8) are DEFLATE-compressed
+ * when that makes them smaller; prose typically shrinks to a third. Writes
+ * join the caller's transaction.
+ */
+@Service
+public class ApplicationTextService {
+
+    @Autowired
+    private ApplicationTextRepository applicationTextRepository;
+
+    @Value("${notes.compress-min-bytes:512}")
+    private int compressMinBytes;
+
+    /**
+     * Text of a field, or null if it has none
+     */
+    public String get(Long applicationId, ApplicationText.Field field) {
+        return applicationTextRepository.findById(new ApplicationText.Key(applicationId, field))
+                .map(ApplicationTextService::decode)
+                .orElse(null);
+    }
+
+    /**
+     * Set the text of a field; null or blank removes it
+     *
+     * @return whether the field has text now
+     */
+    public boolean put(Long applicationId, Long userId, ApplicationText.Field field, String text) {
+        if (text == null || text.isBlank()) {
+            applicationTextRepository.deleteField(applicationId, field);
+            return false;
+        }
+
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = utf8.length >= compressMinBytes ? deflate(utf8) : null;
+        boolean useCompressed = compressed != null && compressed.length < utf8.length;
+
+        ApplicationText row = new ApplicationText();
+        row.setApplicationId(applicationId);
+        row.setField(field);
+        row.setUserId(userId);
+        row.setEncoding(useCompressed ? ApplicationText.Encoding.DEFLATE : ApplicationText.Encoding.PLAIN);
+        row.setContent(useCompressed ? compressed : utf8);
+        row.setLength(text.length());
+        applicationTextRepository.save(row);
+        return true;
+    }
+
+    private static String decode(ApplicationText text) {
+        byte[] utf8 = switch (text.getEncoding()) {
+            case PLAIN -> text.getContent();
+            case DEFLATE -> inflate(text.getContent());
+        };
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        try (InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(input))) {
+            return inflater.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed text", e);
+        }
+    }
+}
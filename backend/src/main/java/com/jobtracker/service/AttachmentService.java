@@ -0,0 +1,294 @@
+package com.jobtracker.service;
+
+import com.jobtracker.entity.Attachment;
+import com.jobtracker.exception.CustomExceptions;
+import com.jobtracker.repository.AttachmentRepository;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.sharding.ShardRouter;
+import com.jobtracker.storage.BlobStore;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * AttachmentService
+ * Files attached to applications: metadata in the attachments table,
+ * content in the BlobStore
+ *
+ * Uploads are streamed from the request to a staging file through a small
+ * buffer while being hashed, then stored under their SHA-256, so the same
+ * résumé attached to fifty applications is stored once. Staging happens
+ * before any transaction starts, so a slow upload never holds a database
+ * connection. Deleting an attachment only removes its row; blobs nobody
+ * references any more are collected by a nightly job.
+ */
+@Service
+public class AttachmentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttachmentService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GC_BATCH_SIZE = 500;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${attachments.max-bytes:10485760}")
+    private long maxBytes;
+
+    @Value("${attachments.max-per-application:20}")
+    private int maxPerApplication;
+
+    @Value("${blob-store.gc-grace-hours:24}")
+    private long gcGraceHours;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Attachments of one of the user's applications (metadata only)
+     */
+    public List<Attachment> getAttachments(Long applicationId, Long userId) {
+        requireApplication(applicationId, userId);
+        return attachmentRepository.findByApplicationIdAndUserIdOrderById(applicationId, userId);
+    }
+
+    /**
+     * Get a single attachment of one of the user's applications
+     */
+    public Attachment getAttachment(Long applicationId, Long attachmentId, Long userId) {
+        return attachmentRepository.findByIdAndApplicationIdAndUserId(attachmentId, applicationId, userId)
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("Attachment", "id", attachmentId));
+    }
+
+    /**
+     * Store an upload read from the given channel
+     *
+     * @param declaredLength Content-Length of the upload, or -1 if unknown
+     * @throws CustomExceptions.BadRequestException if the file is empty or
+     *         larger than attachments.max-bytes, or the application is full
+     */
+    public Attachment upload(
+            Long applicationId,
+            Long userId,
+            String fileName,
+            String contentType,
+            long declaredLength,
+            ReadableByteChannel body) throws IOException {
+        requireApplication(applicationId, userId);
+        if (declaredLength > maxBytes) {
+            throw new CustomExceptions.BadRequestException("File must not exceed " + maxBytes + " bytes");
+        }
+        String name = cleanFileName(fileName);
+        String type = cleanContentType(contentType);
+
+        Path staged = blobStore.createStagingFile();
+        try {
+            MessageDigest digest = sha256();
+            long size = stage(body, staged, digest);
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            return transactionTemplate.execute(status -> {
+                if (attachmentRepository.countByApplicationId(applicationId) >= maxPerApplication) {
+                    throw new CustomExceptions.BadRequestException(
+                            "An application can have at most " + maxPerApplication + " attachments");
+                }
+                Attachment attachment = new Attachment();
+                attachment.setUserId(userId);
+                attachment.setApplicationId(applicationId);
+                attachment.setFileName(name);
+                attachment.setContentType(type);
+                attachment.setSizeBytes(size);
+                attachment.setContentHash(hash);
+                Attachment saved = attachmentRepository.save(attachment);
+
+                // Last, so a failure rolls the row back; a blob left behind by a failed commit is collected
+                try {
+                    blobStore.putIfAbsent(hash, staged);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return saved;
+            });
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+    }
+
+    /**
+     * Copy part of an attachment's content to the target
+     */
+    public void read(Attachment attachment, long offset, long length, WritableByteChannel target) throws IOException {
+        blobStore.read(attachment.getContentHash(), offset, length, target);
+    }
+
+    /**
+     * Local file holding an attachment's content, when the blob store has one
+     */
+    public Optional<Path> localFile(Attachment attachment) {
+        return blobStore.localPath(attachment.getContentHash());
+    }
+
+    /**
+     * Delete an attachment (its content stays until no attachment uses it)
+     */
+    @Transactional
+    public void deleteAttachment(Long applicationId, Long attachmentId, Long userId) {
+        attachmentRepository.delete(getAttachment(applicationId, attachmentId, userId));
+    }
+
+    /**
+     * Delete blobs that no attachment on any shard references
+     * Only blobs untouched for blob-store.gc-grace-hours are considered, and
+     * storing the same content again refreshes a blob, so uploads in flight
+     * keep theirs.
+     */
+    @Scheduled(cron = "${blob-store.gc-cron:0 0 5 * * *}")
+    public void collectGarbage() throws IOException {
+        Instant before = Instant.now().minus(Duration.ofHours(gcGraceHours));
+        List<String> batch = new ArrayList<>(GC_BATCH_SIZE);
+        int[] deleted = { 0 };
+
+        blobStore.forEachOlderThan(before, key -> {
+            batch.add(key);
+            if (batch.size() == GC_BATCH_SIZE) {
+                deleted[0] += collect(batch, before);
+                batch.clear();
+            }
+        });
+        deleted[0] += collect(batch, before);
+
+        logger.info("Blob garbage collection deleted {} unreferenced blobs", deleted[0]);
+    }
+
+    private int collect(List<String> keys, Instant before) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Set<String> referenced = new HashSet<>();
+        shardRouter.forEachShard(() -> referenced.addAll(attachmentRepository.findReferencedHashes(keys)));
+
+        int deleted = 0;
+        for (String key : keys) {
+            try {
+                if (!referenced.contains(key) && blobStore.deleteIfOlderThan(key, before)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                logger.warn("Could not delete blob {}: {}", key, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    private long stage(ReadableByteChannel body, Path staged, MessageDigest digest) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long size = 0;
+        try (FileChannel out = FileChannel.open(staged, StandardOpenOption.WRITE)) {
+            while (body.read(buffer) >= 0) {
+                buffer.flip();
+                size += buffer.remaining();
+                if (size > maxBytes) {
+                    throw new CustomExceptions.BadRequestException("File must not exceed " + maxBytes + " bytes");
+                }
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+        if (size == 0) {
+            throw new CustomExceptions.BadRequestException("File is empty");
+        }
+        return size;
+    }
+
+    private void requireApplication(Long applicationId, Long userId) {
+        if (!jobApplicationRepository.existsByIdAndUser_IdAndDeletedFalse(applicationId, userId)) {
+            throw new CustomExceptions.ResourceNotFoundException("JobApplication", "id", applicationId);
+        }
+    }
+
+    private static String cleanFileName(String fileName) {
+        String name = fileName == null ? "" : fileName;
+        // Keep only the last path segment and drop control characters
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1)
+                .replaceAll("\\p{Cntrl}", "")
+                .strip();
+        if (name.isEmpty()) {
+            throw new CustomExceptions.BadRequestException("File name is required");
+        }
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    }
+
+    private static String cleanContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        try {
+            MediaType type = MediaType.parseMediaType(contentType);
+            if (type.isWildcardType() || type.isWildcardSubtype() || type.getType().equals("multipart")) {
+                throw new CustomExceptions.BadRequestException(
+                        "Send the file itself as the request body, with its own Content-Type");
+            }
+            String value = type.getType() + "/" + type.getSubtype();
+            return value.length() > 100 ? MediaType.APPLICATION_OCTET_STREAM_VALUE : value;
+        } catch (InvalidMediaTypeException e) {
+            throw new CustomExceptions.BadRequestException("Invalid Content-Type: " + contentType);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
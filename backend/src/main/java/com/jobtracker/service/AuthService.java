@@ -15,6 +15,7 @@ import com.jobtracker.entity.User;
 import com.jobtracker.exception.CustomExceptions;
 import com.jobtracker.repository.RoleRepository;
 import com.jobtracker.repository.UserRepository;
+import com.jobtracker.sharding.ShardRouter;
 
 @Service
 public class AuthService {
@@ -28,6 +29,9 @@ public class AuthService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ShardRouter shardRouter;
+
     /**
      * Register a new user
      * 
@@ -66,6 +70,9 @@ public class AuthService {
         // Save user to database
         userRepository.save(user);
 
+        // Record the user's shard (also enforces username/email uniqueness across shards)
+        shardRouter.register(user.getId(), user.getUsername(), user.getEmail());
+
         return "User registered successfully!";
     }
 
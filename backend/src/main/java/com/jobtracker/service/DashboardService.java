@@ -0,0 +1,119 @@
+package com.jobtracker.service;
+
+import com.jobtracker.dto.JobApplicationDTOs.DashboardResponse;
+import com.jobtracker.dto.JobApplicationDTOs.JobApplicationResponse;
+import com.jobtracker.dto.PageDTOs.PageResponse;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.metrics.QueryCountInspector;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.sharding.ShardContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DashboardService
+ * Everything the dashboard shows, in one call
+ *
+ * The grouped status counts run on a small bounded pool while the request
+ * thread reads the page of applications. The counts also give the page's
+ * total (all applications, or those with the filtered status), so the
+ * page query skips its own COUNT: two queries instead of the seven that
+ * separate list and stats requests cost.
+ */
+@Service
+public class DashboardService {
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Value("${dashboard.workers:8}")
+    private int workers;
+
+    @Value("${dashboard.queue-size:64}")
+    private int queueSize;
+
+    private ExecutorService statsPool;
+
+    @PostConstruct
+    void init() {
+        // Bounded queue; when it is full the request thread runs the counts itself
+        statsPool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-stats");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        statsPool.shutdown();
+    }
+
+    /**
+     * A page of the user's applications (optionally one status) and their status counts
+     */
+    public DashboardResponse getDashboard(
+            Long userId,
+            ApplicationStatus status,
+            int page,
+            int size,
+            String sortBy,
+            String direction) {
+        Pageable pageable = jobApplicationService.pageRequest(page, size, sortBy, direction);
+
+        // The counts run on the request's shard and count towards its queries
+        String shard = ShardContext.get();
+        AtomicInteger queries = QueryCountInspector.get();
+        Future<Map<String, Long>> statsFuture = statsPool.submit(
+                () -> QueryCountInspector.callCounted(queries,
+                        () -> ShardContext.callOn(shard, () -> jobApplicationService.getStatistics(userId))));
+
+        List<JobApplication> content = status == null
+                ? jobApplicationRepository.findAllByUser_IdAndDeletedFalse(userId, pageable)
+                : jobApplicationRepository.findAllByUser_IdAndStatusAndDeletedFalse(userId, status, pageable);
+
+        Map<String, Long> stats = await(statsFuture);
+        long total = stats.get(status == null ? "total" : status.name().toLowerCase());
+
+        PageResponse<JobApplicationResponse> applications = new PageResponse<>(
+                new PageImpl<>(content, pageable, total)
+                        .map(application -> new JobApplicationResponse(application, false)));
+
+        return new DashboardResponse(applications, stats);
+    }
+
+    private Map<String, Long> await(Future<Map<String, Long>> statsFuture) {
+        try {
+            return statsFuture.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Loading statistics failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            statsFuture.cancel(true);
+            throw new IllegalStateException("Interrupted while loading statistics", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.jobtracker.service;
+
+import com.jobtracker.cluster.SecondLevelCacheSync;
+import com.jobtracker.sharding.ShardRouter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DuplicateScanService
+ * Nightly job that marks applications repeating an older one
+ *
+ * Instead of comparing applications pairwise, each shard is read once in
+ * (user_id, dedupe_key, id) order, so every group of duplicates arrives as
+ * a run of adjacent rows. The first row of a run is the original; the rest
+ * get duplicate_of pointing at it. Only rows whose mark changes are
+ * written, in batches, so a clean table costs one sequential read.
+ *
+ * The marks are written with plain JDBC, so each changed row is evicted
+ * from the second-level cache here and on the other nodes.
+ */
+@Service
+public class DuplicateScanService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateScanService.class);
+
+    private static final String SCAN_SQL = "SELECT id, user_id, dedupe_key, duplicate_of FROM job_applications " +
+            "WHERE deleted = 0 AND dedupe_key IS NOT NULL ORDER BY user_id, dedupe_key, id";
+
+    private static final String MARK_SQL = "UPDATE job_applications SET duplicate_of = ? WHERE id = ?";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private SecondLevelCacheSync secondLevelCacheSync;
+
+    @Value("${duplicates.scan-batch-size:500}")
+    private int batchSize;
+
+    private JdbcTemplate scanJdbc;
+    private JdbcTemplate markJdbc;
+
+    @PostConstruct
+    void init() {
+        scanJdbc = new JdbcTemplate(dataSource);
+        // MySQL Connector/J streams rows one at a time instead of buffering the result
+        scanJdbc.setFetchSize(Integer.MIN_VALUE);
+        markJdbc = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Scan every shard
+     */
+    @Scheduled(cron = "${duplicates.scan-cron:0 0 4 * * *}")
+    public void scan() {
+        shardRouter.forEachShard(this::scanShard);
+    }
+
+    private void scanShard() {
+        Marker marker = new Marker();
+        // The streaming read holds its connection; marks go through another one
+        scanJdbc.query(SCAN_SQL, marker);
+        marker.flush();
+        logger.info("Duplicate scan checked {} applications, changed {} marks", marker.scanned, marker.changed);
+    }
+
+    /**
+     * Walks the sorted rows, remembering where the current run started
+     */
+    private final class Marker implements RowCallbackHandler {
+
+        private final List<Object[]> pending = new ArrayList<>();
+        private final List<Long> pendingUserIds = new ArrayList<>();
+        private long runUserId;
+        private String runKey;
+        private long runFirstId;
+        private long scanned;
+        private long changed;
+
+        @Override
+        public void processRow(ResultSet row) throws SQLException {
+            long id = row.getLong("id");
+            long userId = row.getLong("user_id");
+            String key = row.getString("dedupe_key");
+            Long current = row.getObject("duplicate_of", Long.class);
+
+            Long expected;
+            if (scanned > 0 && userId == runUserId && key.equals(runKey)) {
+                expected = runFirstId;
+            } else {
+                runUserId = userId;
+                runKey = key;
+                runFirstId = id;
+                expected = null;
+            }
+            scanned++;
+
+            if (!Objects.equals(current, expected)) {
+                pending.add(new Object[] { expected, id });
+                pendingUserIds.add(userId);
+                if (pending.size() >= batchSize) {
+                    flush();
+                }
+            }
+        }
+
+        void flush() {
+            if (!pending.isEmpty()) {
+                markJdbc.batchUpdate(MARK_SQL, pending);
+                for (int i = 0; i < pending.size(); i++) {
+                    secondLevelCacheSync.evictAfterCommit(pendingUserIds.get(i), (Long) pending.get(i)[1]);
+                }
+                changed += pending.size();
+                pending.clear();
+                pendingUserIds.clear();
+            }
+        }
+    }
+}
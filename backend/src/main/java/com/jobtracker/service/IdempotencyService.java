@@ -0,0 +1,235 @@
+package com.jobtracker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobtracker.entity.IdempotencyRecord;
+import com.jobtracker.exception.CustomExceptions;
+import com.jobtracker.repository.IdempotencyRecordRepository;
+import com.jobtracker.sharding.ShardRouter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * IdempotencyService
+ * Runs a write at most once per (user, Idempotency-Key) and answers
+ * retries with the stored response
+ *
+ * The key is inserted in the same transaction as the write and gets the
+ * response before commit, so a concurrent retry on any node waits on the
+ * key's row lock and then replays. Completed responses are also kept in a
+ * size-bounded in-memory cache, so a retry on the node that served the
+ * original costs no query. A key expires after idempotency.ttl-hours; a
+ * key reused with a different request is rejected.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[\\x21-\\x7E]{1,64}");
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${idempotency.cache-max-bytes:16777216}")
+    private long cacheMaxBytes;
+
+    private TransactionTemplate transactionTemplate;
+
+    // (user id, key) -> completed response
+    private Cache<CacheKey, Stored> responses;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        responses = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((CacheKey key, Stored stored) -> stored.body().length() + 128)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .build();
+    }
+
+    /**
+     * Run a write unless the key was used before, in which case its stored
+     * response is returned; without a key the write just runs
+     *
+     * @param operation names the endpoint (and path variables), so one key
+     *        cannot be replayed against a different write
+     * @throws CustomExceptions.BadRequestException if the key is malformed or
+     *         was used for a different request
+     */
+    public <T> Outcome<T> execute(
+            Long userId,
+            String key,
+            String operation,
+            Object request,
+            Class<T> responseType,
+            Supplier<T> write) {
+        if (key == null) {
+            return new Outcome<>(write.get(), false);
+        }
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new CustomExceptions.BadRequestException(
+                    HEADER + " must be 1 to 64 visible ASCII characters");
+        }
+        String requestHash = hash(operation, request);
+        CacheKey cacheKey = new CacheKey(userId, key);
+
+        Stored cached = responses.getIfPresent(cacheKey);
+        if (cached != null && cached.isLive()) {
+            return replay(cached, requestHash, responseType);
+        }
+
+        Attempt<T> attempt;
+        try {
+            attempt = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                Optional<Stored> existing = find(userId, key);
+                if (existing.isPresent() && existing.get().isLive()) {
+                    return new Attempt<>(null, existing.get());
+                }
+                if (existing.isPresent()) {
+                    idempotencyRecordRepository.deleteIfExpired(userId, key, now);
+                }
+
+                LocalDateTime expiresAt = now.plusHours(ttlHours);
+                try {
+                    idempotencyRecordRepository.claim(userId, key, requestHash, now, expiresAt);
+                } catch (DataIntegrityViolationException e) {
+                    throw new KeyTakenException();
+                }
+
+                T response = write.get();
+                String body = toJson(response);
+                idempotencyRecordRepository.complete(userId, key, body);
+                return new Attempt<>(response, new Stored(requestHash, body, expiresAt));
+            });
+        } catch (KeyTakenException e) {
+            // A concurrent request with the same key committed first
+            Stored stored = transactionTemplate.execute(status -> find(userId, key).orElse(null));
+            if (stored == null) {
+                throw new CustomExceptions.DuplicateResourceException(
+                        "A request with this " + HEADER + " is in progress; retry it");
+            }
+            responses.put(cacheKey, stored);
+            return replay(stored, requestHash, responseType);
+        }
+
+        responses.put(cacheKey, attempt.stored());
+        return attempt.response() != null
+                ? new Outcome<>(attempt.response(), false)
+                : replay(attempt.stored(), requestHash, responseType);
+    }
+
+    /**
+     * Delete expired keys, shard by shard
+     */
+    @Scheduled(cron = "${idempotency.cleanup-cron:0 15 * * * *}")
+    public void deleteExpired() {
+        shardRouter.forEachShard(() -> {
+            Integer deleted = transactionTemplate.execute(
+                    status -> idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+            logger.debug("Deleted {} expired idempotency keys", deleted);
+        });
+    }
+
+    /**
+     * Result of execute: the response and whether it was replayed
+     */
+    public record Outcome<T>(T response, boolean replayed) {
+    }
+
+    private record CacheKey(Long userId, String key) {
+    }
+
+    private record Stored(String requestHash, String body, LocalDateTime expiresAt) {
+        boolean isLive() {
+            return expiresAt.isAfter(LocalDateTime.now());
+        }
+    }
+
+    // response is null when the key was already complete
+    private record Attempt<T>(T response, Stored stored) {
+    }
+
+    private static class KeyTakenException extends RuntimeException {
+        KeyTakenException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private Optional<Stored> find(Long userId, String key) {
+        return idempotencyRecordRepository.findById(new IdempotencyRecord.Key(userId, key))
+                .filter(record -> record.getResponseBody() != null)
+                .map(record -> new Stored(record.getRequestHash(), record.getResponseBody(), record.getExpiresAt()));
+    }
+
+    private <T> Outcome<T> replay(Stored stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new CustomExceptions.BadRequestException(
+                    HEADER + " was already used for a different request");
+        }
+        try {
+            return new Outcome<>(objectMapper.readValue(stored.body(), responseType), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored response cannot be read", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response cannot be stored", e);
+        }
+    }
+
+    private String hash(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Request cannot be hashed", e);
+        }
+    }
+}
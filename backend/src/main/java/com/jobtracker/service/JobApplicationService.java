@@ -1,21 +1,44 @@
 package com.jobtracker.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobtracker.dto.JobApplicationDTOs.*;
+import com.jobtracker.dto.PageDTOs.PageResponse;
 import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.ApplicationText;
 import com.jobtracker.entity.JobApplication;
 import com.jobtracker.entity.User;
+import com.jobtracker.event.ApplicationChangeEvent;
 import com.jobtracker.exception.CustomExceptions;
+import com.jobtracker.repository.AttachmentRepository;
 import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.JobApplicationRepository.StatusCount;
+import com.jobtracker.repository.JobApplicationSpecifications;
+import com.jobtracker.repository.ReminderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * JobApplicationService
@@ -27,93 +50,152 @@ import java.util.Map;
 @Service
 public class JobApplicationService {
 
+    /**
+     * Fields the list may be sorted by. dateApplied, updatedAt and status
+     * lead per-user indexes; company and role sort within the user's rows.
+     */
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "dateApplied", "updatedAt", "status", "company", "role");
+
     @Autowired
     private JobApplicationRepository jobApplicationRepository;
 
-    /**
-     * Get all applications for a user (with pagination)
-     */
-    public Page<JobApplication> getAllApplications(
-            User user,
-            int page,
-            int size,
-            String sortBy,
-            String direction) {
-        Sort sort = direction.equalsIgnoreCase("asc")
-                ? Sort.by(sortBy).ascending()
-                : Sort.by(sortBy).descending();
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ReminderService reminderService;
 
-        Pageable pageable = PageRequest.of(page, size, sort);
+    @Autowired
+    private ReminderRepository reminderRepository;
 
-        return jobApplicationRepository.findByUserAndDeletedFalse(user, pageable);
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private ApplicationTextService applicationTextService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Identical reads running at the same time (several tabs, re-renders) share one query.
+    // Waiters get the DTOs mapped by the caller that ran it, never its managed entities.
+    private SingleFlight<ListRead, PageResponse<JobApplicationResponse>> listReads;
+    private SingleFlight<Long, Map<String, Long>> statisticsReads;
+
+    @PostConstruct
+    void init() {
+        listReads = new SingleFlight<>("applications.list", meterRegistry);
+        statisticsReads = new SingleFlight<>("applications.statistics", meterRegistry);
     }
 
     /**
-     * Get applications filtered by status
+     * Find a user's applications matching every filter that is set
+     * (status set, keyword, dateApplied and updatedAt ranges), in one query
+     * An identical call already running for the user shares its result, so
+     * the page is returned as DTOs (without the owner) and must not be changed.
      */
-    public Page<JobApplication> getApplicationsByStatus(
-            User user,
-            ApplicationStatus status,
+    public PageResponse<JobApplicationResponse> findApplications(
+            Long userId,
+            ApplicationFilter filter,
             int page,
             int size,
             String sortBy,
             String direction) {
-        Sort sort = direction.equalsIgnoreCase("asc")
-                ? Sort.by(sortBy).ascending()
-                : Sort.by(sortBy).descending();
+        if (isReversed(filter.getAppliedFrom(), filter.getAppliedTo())
+                || isReversed(filter.getUpdatedFrom(), filter.getUpdatedTo())) {
+            throw new CustomExceptions.BadRequestException("Date range start must not be after its end");
+        }
 
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = pageRequest(page, size, sortBy, direction);
 
-        return jobApplicationRepository.findByUserAndStatusAndDeletedFalse(
-                user, status, pageable);
+        return listReads.execute(new ListRead(userId, filter, page, size, sortBy, direction),
+                () -> new PageResponse<>(jobApplicationRepository
+                        .findAll(JobApplicationSpecifications.forUser(userId, filter), pageable)
+                        .map(application -> new JobApplicationResponse(application, false))));
     }
 
     /**
-     * Search applications by keyword (company or role)
+     * Page request with a whitelisted sort field
+     * Ties are broken by id so pages do not overlap or skip rows
+     *
+     * @throws CustomExceptions.BadRequestException if sortBy is not sortable
      */
-    public Page<JobApplication> searchApplications(
-            User user,
-            String keyword,
-            int page,
-            int size,
-            String sortBy,
-            String direction) {
-        Sort sort = direction.equalsIgnoreCase("asc")
-                ? Sort.by(sortBy).ascending()
-                : Sort.by(sortBy).descending();
+    public Pageable pageRequest(int page, int size, String sortBy, String direction) {
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new CustomExceptions.BadRequestException(
+                    "Cannot sort by '" + sortBy + "'; use one of " + SORTABLE_FIELDS);
+        }
 
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Sort.Direction order = direction.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
 
-        return jobApplicationRepository.searchByKeyword(user, keyword, pageable);
+        return PageRequest.of(page, size, Sort.by(order, sortBy, "id"));
     }
 
     /**
      * Get a single application by ID
      * Ensures user can only access their own application
+     * Loads by primary key so the second-level cache can answer, then checks
+     * ownership in memory (the user proxy's id needs no extra query).
+     * Notes are read from application_texts only if the application has any.
      */
     public JobApplication getApplicationById(Long id, User user) {
-        return jobApplicationRepository.findByIdAndUserAndDeletedFalse(id, user)
+        JobApplication application = jobApplicationRepository.findById(id)
+                .filter(found -> !Boolean.TRUE.equals(found.getDeleted()))
+                .filter(found -> found.getUser().getId().equals(user.getId()))
                 .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException(
                         "JobApplication", "id", id));
+        if (Boolean.TRUE.equals(application.getHasNotes())) {
+            application.setNotes(applicationTextService.get(id, ApplicationText.Field.NOTES));
+        }
+        return application;
     }
 
     /**
      * Create a new job application
+     * One for a company and role the user already applied to (compared by
+     * ApplicationKeys.dedupeKey) is rejected unless allowDuplicate is set,
+     * in which case it is marked as a duplicate of the oldest. The check is
+     * an index probe, so two concurrent creates can both pass; the nightly
+     * DuplicateScanService marks those.
+     *
+     * @throws CustomExceptions.DuplicateApplicationException if a match exists
+     *         and duplicates are not allowed
      */
     @Transactional
     public JobApplication createApplication(
             CreateJobApplicationRequest request,
-            User user) {
+            User user,
+            boolean allowDuplicate) {
+        String dedupeKey = ApplicationKeys.dedupeKey(request.getCompany(), request.getRole());
+        Long existingId = olderDuplicate(user.getId(), dedupeKey, null);
+        if (existingId != null && !allowDuplicate) {
+            throw new CustomExceptions.DuplicateApplicationException(existingId);
+        }
+
         JobApplication application = new JobApplication();
         application.setCompany(request.getCompany());
         application.setRole(request.getRole());
         application.setStatus(request.getStatus());
         application.setDateApplied(request.getDateApplied());
-        application.setNotes(request.getNotes());
         application.setUser(user);
         application.setDeleted(false);
+        application.setNextReminderAt(reminderService.nextReminderAt(request.getStatus()));
+        application.setDedupeKey(dedupeKey);
+        application.setDuplicateOf(existingId);
+
+        application.setHasNotes(request.getNotes() != null && !request.getNotes().isBlank());
+
+        JobApplication saved = jobApplicationRepository.save(application);
+        if (saved.getHasNotes()) {
+            setNotes(saved, request.getNotes());
+        }
+        publish(ApplicationChangeEvent.Type.CREATED, saved);
 
-        return jobApplicationRepository.save(application);
+        return saved;
     }
 
     /**
@@ -135,15 +217,130 @@ public class JobApplicationService {
         }
         if (request.getStatus() != null) {
             application.setStatus(request.getStatus());
+            application.setNextReminderAt(reminderService.nextReminderAt(request.getStatus()));
         }
         if (request.getDateApplied() != null) {
             application.setDateApplied(request.getDateApplied());
         }
         if (request.getNotes() != null) {
-            application.setNotes(request.getNotes());
+            setNotes(application, request.getNotes());
+        }
+        if (request.getCompany() != null || request.getRole() != null) {
+            String dedupeKey = ApplicationKeys.dedupeKey(application.getCompany(), application.getRole());
+            if (!dedupeKey.equals(application.getDedupeKey())) {
+                application.setDedupeKey(dedupeKey);
+                application.setDuplicateOf(olderDuplicate(user.getId(), dedupeKey, id));
+            }
+        }
+
+        JobApplication saved = jobApplicationRepository.save(application);
+        publish(ApplicationChangeEvent.Type.UPDATED, saved);
+
+        return saved;
+    }
+
+    /**
+     * Partially update an application from a JSON Merge Patch (RFC 7396)
+     * Absent fields are left alone, null clears a field (notes only).
+     * The row is loaded by id, normally from the second-level cache, and only
+     * the changed columns are written (@DynamicUpdate). Going through the
+     * entity keeps the cache entry current; a bulk UPDATE would make
+     * Hibernate invalidate the whole job-applications region instead.
+     * Patched notes are written to application_texts.
+     */
+    @Transactional
+    public void patchApplication(Long id, JsonNode patch, Long userId) {
+        if (patch == null || !patch.isObject()) {
+            throw new CustomExceptions.BadRequestException("Merge patch must be a JSON object");
+        }
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            JsonNode value = field.getValue();
+
+            switch (name) {
+                case "company", "role" -> changes.put(name, readRequired(name, value, String.class, 100));
+                case "status" -> changes.put(name, readRequired(name, value, ApplicationStatus.class, 0));
+                case "dateApplied" -> changes.put(name, readRequired(name, value, LocalDate.class, 0));
+                // Blank notes count as none, as in PUT (see ApplicationTextService)
+                case "notes" -> changes.put(name, value.isNull() || value.isTextual() && value.asText().isBlank()
+                        ? null
+                        : read(name, value, String.class, ApplicationText.MAX_LENGTH));
+                default -> throw new CustomExceptions.BadRequestException("Field cannot be patched: " + name);
+            }
+        }
+
+        JobApplication application = jobApplicationRepository.findById(id)
+                .filter(current -> !Boolean.TRUE.equals(current.getDeleted()))
+                .filter(current -> current.getUser().getId().equals(userId))
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("JobApplication", "id", id));
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // Looked up before anything is changed, so the query does not flush a half-patched row
+        boolean renamed = changes.containsKey("company") || changes.containsKey("role");
+        String dedupeKey = renamed
+                ? ApplicationKeys.dedupeKey(
+                        (String) changes.getOrDefault("company", application.getCompany()),
+                        (String) changes.getOrDefault("role", application.getRole()))
+                : null;
+        Long duplicateOf = renamed ? olderDuplicate(userId, dedupeKey, id) : null;
+
+        if (changes.containsKey("company")) {
+            application.setCompany((String) changes.get("company"));
+        }
+        if (changes.containsKey("role")) {
+            application.setRole((String) changes.get("role"));
+        }
+        if (changes.containsKey("status")) {
+            application.setStatus((ApplicationStatus) changes.get("status"));
+            application.setNextReminderAt(reminderService.nextReminderAt(application.getStatus()));
+        }
+        if (changes.containsKey("dateApplied")) {
+            application.setDateApplied((LocalDate) changes.get("dateApplied"));
+        }
+        if (changes.containsKey("notes")) {
+            setNotes(application, (String) changes.get("notes"));
+        }
+        if (renamed) {
+            application.setDedupeKey(dedupeKey);
+            application.setDuplicateOf(duplicateOf);
         }
+        // Every patch counts as an edit, even one that only changes notes (not a column)
+        application.setUpdatedAt(LocalDateTime.now());
+        JobApplication saved = jobApplicationRepository.save(application);
 
-        return jobApplicationRepository.save(application);
+        // Same shape as a PUT, so consumers need not tell the two apart
+        publish(ApplicationChangeEvent.Type.UPDATED, saved);
+    }
+
+    private <T> T readRequired(String name, JsonNode value, Class<T> type, int maxLength) {
+        if (value.isNull()) {
+            throw new CustomExceptions.BadRequestException(name + " cannot be null");
+        }
+        return read(name, value, type, maxLength);
+    }
+
+    private <T> T read(String name, JsonNode value, Class<T> type, int maxLength) {
+        if (type == String.class) {
+            if (!value.isTextual() || value.asText().isBlank()) {
+                throw new CustomExceptions.BadRequestException(name + " must be a non-empty string");
+            }
+            if (maxLength > 0 && value.asText().length() > maxLength) {
+                throw new CustomExceptions.BadRequestException(
+                        name + " must not exceed " + maxLength + " characters");
+            }
+            return type.cast(value.asText());
+        }
+        try {
+            return objectMapper.treeToValue(value, type);
+        } catch (JsonProcessingException e) {
+            throw new CustomExceptions.BadRequestException("Invalid value for " + name, e);
+        }
     }
 
     /**
@@ -153,25 +350,188 @@ public class JobApplicationService {
     public void deleteApplication(Long id, User user) {
         JobApplication application = getApplicationById(id, user);
         application.setDeleted(true);
+        application.setNextReminderAt(null);
         jobApplicationRepository.save(application);
+
+        eventPublisher.publishEvent(new ApplicationChangeEvent(
+                ApplicationChangeEvent.Type.DELETED, user.getId(), id, null));
+    }
+
+    /**
+     * A user's applications that repeat a company and role, grouped, oldest first
+     * Sorted by key so that each group is a run of adjacent rows
+     */
+    public List<DuplicateGroup> findDuplicates(Long userId) {
+        List<DuplicateGroup> groups = new ArrayList<>();
+        List<JobApplicationResponse> group = null;
+        String groupKey = null;
+
+        for (JobApplication application : jobApplicationRepository.findDuplicates(userId)) {
+            if (!application.getDedupeKey().equals(groupKey)) {
+                group = new ArrayList<>();
+                groups.add(new DuplicateGroup(group));
+                groupKey = application.getDedupeKey();
+            }
+            group.add(new JobApplicationResponse(application, false));
+        }
+
+        return groups;
+    }
+
+    /**
+     * Merge other applications into one and soft-delete them
+     * The kept application takes the earliest dateApplied and the notes of
+     * all of them; reminders and attachments of the merged ones move over to it,
+     * and so do duplicate marks pointing at them.
+     */
+    @Transactional
+    public JobApplication mergeApplications(Long id, List<Long> duplicateIds, User user) {
+        Set<Long> mergedIds = new LinkedHashSet<>(duplicateIds);
+        if (mergedIds.contains(id)) {
+            throw new CustomExceptions.BadRequestException("An application cannot be merged into itself");
+        }
+
+        JobApplication kept = getApplicationById(id, user);
+        List<JobApplication> merged = new ArrayList<>(mergedIds.size());
+        for (Long mergedId : mergedIds) {
+            merged.add(getApplicationById(mergedId, user));
+        }
+
+        Set<String> notes = new LinkedHashSet<>();
+        addNotes(notes, kept.getNotes());
+        for (JobApplication application : merged) {
+            addNotes(notes, application.getNotes());
+            if (application.getDateApplied().isBefore(kept.getDateApplied())) {
+                kept.setDateApplied(application.getDateApplied());
+            }
+            application.setDeleted(true);
+            application.setNextReminderAt(null);
+            application.setDuplicateOf(null);
+        }
+        setNotes(kept, notes.isEmpty() ? null : String.join("\n\n", notes));
+        // Still a duplicate only of an application that was not merged into it
+        if (mergedIds.contains(kept.getDuplicateOf())) {
+            kept.setDuplicateOf(null);
+        }
+
+        jobApplicationRepository.saveAll(merged);
+        JobApplication saved = jobApplicationRepository.save(kept);
+        reminderRepository.reassignApplication(user.getId(), mergedIds, id);
+        attachmentRepository.reassignApplication(user.getId(), mergedIds, id);
+
+        // Duplicates of a merged application now repeat the kept one (or what it repeats)
+        Long original = kept.getDuplicateOf() != null ? kept.getDuplicateOf() : id;
+        List<JobApplication> repointed = new ArrayList<>();
+        for (JobApplication duplicate : jobApplicationRepository
+                .findAllByUser_IdAndDuplicateOfInAndDeletedFalse(user.getId(), mergedIds)) {
+            if (!duplicate.getId().equals(id)) {
+                duplicate.setDuplicateOf(original);
+                repointed.add(duplicate);
+            }
+        }
+        jobApplicationRepository.saveAll(repointed);
+
+        publish(ApplicationChangeEvent.Type.UPDATED, saved);
+        repointed.forEach(duplicate -> publish(ApplicationChangeEvent.Type.UPDATED, duplicate));
+        for (Long mergedId : mergedIds) {
+            eventPublisher.publishEvent(new ApplicationChangeEvent(
+                    ApplicationChangeEvent.Type.DELETED, user.getId(), mergedId, null));
+        }
+
+        return saved;
+    }
+
+    private void setNotes(JobApplication application, String notes) {
+        String previous = application.getNotes();
+        boolean hasNotes = applicationTextService.put(
+                application.getId(), application.getUser().getId(), ApplicationText.Field.NOTES, notes);
+        application.setHasNotes(hasNotes);
+        application.setNotes(hasNotes ? notes : null);
+        // Notes are not a column, so changing only them would not make Hibernate bump updatedAt
+        if (!Objects.equals(previous, application.getNotes())) {
+            application.setUpdatedAt(LocalDateTime.now());
+        }
+    }
+
+    private void publish(ApplicationChangeEvent.Type type, JobApplication application) {
+        JobApplicationResponse data = new JobApplicationResponse(application);
+        // Notes can be far larger than an outbox row or an SSE frame should be; hasNotes tells
+        // consumers to fetch them, as list rows do
+        data.setNotes(null);
+        eventPublisher.publishEvent(new ApplicationChangeEvent(
+                type, application.getUser().getId(), application.getId(), data));
     }
 
     /**
      * Get statistics (counts by status)
      */
     public Map<String, Long> getStatistics(User user) {
-        Map<String, Long> stats = new HashMap<>();
+        return getStatistics(user.getId());
+    }
+
+    /**
+     * Get statistics (counts by status) in one grouped query
+     * Every status is present, with 0 when the user has none. An identical
+     * call already running for the user shares its result, so it is read-only.
+     */
+    public Map<String, Long> getStatistics(Long userId) {
+        return statisticsReads.execute(userId, () -> {
+            Map<String, Long> stats = new HashMap<>();
+            long total = 0;
+
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                stats.put(status.name().toLowerCase(), 0L);
+            }
+            for (StatusCount count : jobApplicationRepository.countByStatus(userId)) {
+                stats.put(count.getStatus().name().toLowerCase(), count.getCount());
+                total += count.getCount();
+            }
+            stats.put("total", total);
+
+            return Collections.unmodifiableMap(stats);
+        });
+    }
+
+    /**
+     * Reads already running for a user may have missed a committed change;
+     * let calls made after it run their own
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChange(ApplicationChangeEvent change) {
+        listReads.forget(read -> read.userId().equals(change.getUserId()));
+        statisticsReads.forget(change.getUserId()::equals);
+    }
 
-        stats.put("total", jobApplicationRepository.countByUserAndDeletedFalse(user));
-        stats.put("applied", jobApplicationRepository.countByUserAndStatusAndDeletedFalse(
-                user, ApplicationStatus.APPLIED));
-        stats.put("interview", jobApplicationRepository.countByUserAndStatusAndDeletedFalse(
-                user, ApplicationStatus.INTERVIEW));
-        stats.put("offer", jobApplicationRepository.countByUserAndStatusAndDeletedFalse(
-                user, ApplicationStatus.OFFER));
-        stats.put("rejected", jobApplicationRepository.countByUserAndStatusAndDeletedFalse(
-                user, ApplicationStatus.REJECTED));
+    /**
+     * Oldest live application of the user with this key, if it is older than
+     * the given one (any, for a new application)
+     */
+    private Long olderDuplicate(Long userId, String dedupeKey, Long id) {
+        List<Long> ids = jobApplicationRepository.findIdsByDedupeKey(userId, dedupeKey, PageRequest.of(0, 1));
+        if (ids.isEmpty()) {
+            return null;
+        }
+        Long oldest = ids.get(0);
+        return id == null || oldest < id ? oldest : null;
+    }
 
-        return stats;
+    private static void addNotes(Set<String> notes, String value) {
+        if (value != null && !value.isBlank()) {
+            notes.add(value.strip());
+        }
+    }
+
+    private static <T extends Comparable<? super T>> boolean isReversed(T from, T to) {
+        return from != null && to != null && from.compareTo(to) > 0;
+    }
+
+    // Fingerprint of a list read; the filter is bound per request and never changed afterwards
+    private record ListRead(
+            Long userId,
+            ApplicationFilter filter,
+            int page,
+            int size,
+            String sortBy,
+            String direction) {
     }
-}
\ No newline at end of file
+}
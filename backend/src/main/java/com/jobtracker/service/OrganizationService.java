@@ -0,0 +1,331 @@
+package com.jobtracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobtracker.cluster.ClusterBus;
+import com.jobtracker.cluster.ClusterMessage;
+import com.jobtracker.dto.JobApplicationDTOs.ApplicationFilter;
+import com.jobtracker.dto.JobApplicationDTOs.JobApplicationResponse;
+import com.jobtracker.dto.OrganizationDTOs.InvitationResponse;
+import com.jobtracker.dto.OrganizationDTOs.InviteMemberRequest;
+import com.jobtracker.dto.PageDTOs.PageResponse;
+import com.jobtracker.entity.Organization;
+import com.jobtracker.entity.OrganizationInvitation;
+import com.jobtracker.entity.OrganizationMember;
+import com.jobtracker.entity.OrganizationRole;
+import com.jobtracker.entity.User;
+import com.jobtracker.exception.CustomExceptions;
+import com.jobtracker.repository.OrganizationInvitationRepository;
+import com.jobtracker.repository.OrganizationMemberRepository;
+import com.jobtracker.repository.OrganizationMemberRepository.OrganizationTotals;
+import com.jobtracker.repository.OrganizationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.sharding.ShardContext;
+import com.jobtracker.sharding.ShardRouter;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * OrganizationService
+ * Organisations (tenants) whose admins see their members' applications
+ *
+ * Organisations and memberships live on the directory shard, so every
+ * method here switches to it; a member's applications are read on the
+ * member's own shard with the same indexed, paginated queries the member
+ * gets. Organisation statistics are summed from per-member rollups
+ * (TenantRollupService) and never read applications.
+ *
+ * An admin only ever sees the organisation they belong to. Users join only
+ * by accepting an invitation, so nobody's applications become visible to
+ * an organisation without their consent.
+ */
+@Service
+public class OrganizationService {
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private OrganizationMemberRepository memberRepository;
+
+    @Autowired
+    private OrganizationInvitationRepository invitationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ClusterBus clusterBus;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${tenants.membership-cache-seconds:60}")
+    private long membershipCacheSeconds;
+
+    private TransactionTemplate transactionTemplate;
+
+    // user id -> organisation id, looked up on every request by the quota filter;
+    // changes are published so other nodes drop their entry too
+    private Cache<Long, Optional<Long>> memberships;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        memberships = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(membershipCacheSeconds))
+                .build();
+        clusterBus.subscribe(ClusterMessage.Topic.MEMBERSHIP, key -> memberships.invalidate(Long.valueOf(key)));
+    }
+
+    /**
+     * Create an organisation with the caller as its first admin
+     *
+     * @throws CustomExceptions.DuplicateResourceException if the caller already belongs to one
+     */
+    public Organization createOrganization(Long userId, String username, String name) {
+        Organization created = onDirectory(() -> {
+            if (memberRepository.existsById(userId)) {
+                throw new CustomExceptions.DuplicateResourceException("You already belong to an organisation");
+            }
+            Organization organization = new Organization();
+            organization.setName(name);
+            organization = organizationRepository.save(organization);
+
+            memberRepository.save(newMember(userId, username, organization.getId(), OrganizationRole.ADMIN));
+            return organization;
+        });
+        membershipChanged(userId);
+        return created;
+    }
+
+    /**
+     * The organisation the user belongs to
+     */
+    public Organization getOrganization(Long userId) {
+        return onDirectory(() -> memberRepository.findById(userId)
+                .flatMap(member -> organizationRepository.findById(member.getOrganizationId()))
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException(
+                        "You do not belong to an organisation")));
+    }
+
+    /**
+     * Invite an existing user to the admin's organisation
+     * The user joins only once they accept. Only site admins may invite
+     * someone as an organisation admin.
+     *
+     * @throws CustomExceptions.DuplicateResourceException if the user already
+     *         belongs to an organisation or is already invited to this one
+     */
+    public InvitationResponse inviteMember(Long adminUserId, boolean siteAdmin, InviteMemberRequest request) {
+        OrganizationRole role = request.getRole() != null ? request.getRole() : OrganizationRole.MEMBER;
+        if (role == OrganizationRole.ADMIN && !siteAdmin) {
+            throw new CustomExceptions.UnauthorizedException("Only site admins can invite organisation admins");
+        }
+
+        // The user lives on their own shard
+        User user = ShardContext.callOn(shardRouter.shardForUsername(request.getUsername()),
+                () -> userRepository.findByUsername(request.getUsername()))
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException(
+                        "User", "username", request.getUsername()));
+
+        return onDirectory(() -> {
+            OrganizationMember admin = requireAdmin(adminUserId);
+            if (memberRepository.existsById(user.getId())) {
+                throw new CustomExceptions.DuplicateResourceException(
+                        "User already belongs to an organisation: " + user.getUsername());
+            }
+            if (invitationRepository.existsByOrganizationIdAndUserId(admin.getOrganizationId(), user.getId())) {
+                throw new CustomExceptions.DuplicateResourceException(
+                        "User has already been invited: " + user.getUsername());
+            }
+
+            OrganizationInvitation invitation = new OrganizationInvitation();
+            invitation.setOrganizationId(admin.getOrganizationId());
+            invitation.setUserId(user.getId());
+            invitation.setUsername(user.getUsername());
+            invitation.setMemberRole(role);
+            invitation.setInvitedBy(adminUserId);
+            return toResponse(invitationRepository.save(invitation));
+        });
+    }
+
+    /**
+     * The caller's pending invitations, oldest first
+     */
+    public List<InvitationResponse> getInvitations(Long userId) {
+        return onDirectory(() -> invitationRepository.findByUserIdOrderByCreatedAt(userId).stream()
+                .map(this::toResponse)
+                .toList());
+    }
+
+    /**
+     * Join the organisation of one of the caller's invitations
+     * The caller's other invitations are dropped.
+     *
+     * @throws CustomExceptions.DuplicateResourceException if the caller already belongs to one
+     */
+    public OrganizationMember acceptInvitation(Long userId, Long invitationId) {
+        OrganizationMember member = onDirectory(() -> {
+            OrganizationInvitation invitation = requireInvitation(userId, invitationId);
+            if (memberRepository.existsById(userId)) {
+                throw new CustomExceptions.DuplicateResourceException("You already belong to an organisation");
+            }
+            invitationRepository.deleteByUserId(userId);
+            return memberRepository.save(newMember(userId, invitation.getUsername(),
+                    invitation.getOrganizationId(), invitation.getMemberRole()));
+        });
+        membershipChanged(userId);
+        return member;
+    }
+
+    /**
+     * Turn down one of the caller's invitations
+     */
+    public void declineInvitation(Long userId, Long invitationId) {
+        onDirectory(() -> {
+            invitationRepository.delete(requireInvitation(userId, invitationId));
+            return null;
+        });
+    }
+
+    /**
+     * Remove a member from the admin's organisation
+     */
+    public void removeMember(Long adminUserId, Long memberUserId) {
+        onDirectory(() -> {
+            OrganizationMember member = requireMember(requireAdmin(adminUserId), memberUserId);
+            memberRepository.delete(member);
+            return null;
+        });
+        membershipChanged(memberUserId);
+    }
+
+    /**
+     * One page of the admin's organisation members with their counts, by username
+     */
+    public Page<OrganizationMember> getMembers(Long adminUserId, int page, int size) {
+        return onDirectory(() -> memberRepository.findByOrganizationId(
+                requireAdmin(adminUserId).getOrganizationId(),
+                PageRequest.of(page, size, Sort.by("username", "userId"))));
+    }
+
+    /**
+     * Counts by status across the admin's organisation, from the member rollups
+     */
+    public Map<String, Long> getStatistics(Long adminUserId) {
+        OrganizationTotals totals = onDirectory(() -> memberRepository.sumByOrganizationId(
+                requireAdmin(adminUserId).getOrganizationId()));
+
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("members", totals.getMembers());
+        stats.put("applied", totals.getApplied());
+        stats.put("interview", totals.getInterview());
+        stats.put("offer", totals.getOffer());
+        stats.put("rejected", totals.getRejected());
+        stats.put("total", totals.getTotal());
+        return stats;
+    }
+
+    /**
+     * One page of a member's applications, with the member's own filters and sorting
+     */
+    public PageResponse<JobApplicationResponse> getMemberApplications(
+            Long adminUserId,
+            Long memberUserId,
+            ApplicationFilter filter,
+            int page,
+            int size,
+            String sortBy,
+            String direction) {
+        onDirectory(() -> requireMember(requireAdmin(adminUserId), memberUserId));
+
+        return ShardContext.callOn(shardRouter.shardForUserId(memberUserId),
+                () -> jobApplicationService.findApplications(memberUserId, filter, page, size, sortBy, direction));
+    }
+
+    /**
+     * Organisation of a user, or null; cached for tenants.membership-cache-seconds
+     */
+    public Long organizationOf(Long userId) {
+        return memberships.get(userId, id -> onDirectory(() -> memberRepository.findById(id)
+                .map(OrganizationMember::getOrganizationId)))
+                .orElse(null);
+    }
+
+    /**
+     * Organisation by id (quota overrides), read on the directory shard
+     */
+    public Optional<Organization> findOrganization(Long organizationId) {
+        return onDirectory(() -> organizationRepository.findById(organizationId));
+    }
+
+    private OrganizationMember requireAdmin(Long userId) {
+        return memberRepository.findById(userId)
+                .filter(member -> member.getMemberRole() == OrganizationRole.ADMIN)
+                .orElseThrow(() -> new CustomExceptions.UnauthorizedException(
+                        "Only organisation admins can do this"));
+    }
+
+    private OrganizationMember requireMember(OrganizationMember admin, Long memberUserId) {
+        // Members of other organisations look the same as unknown users
+        return memberRepository.findById(memberUserId)
+                .filter(member -> member.getOrganizationId().equals(admin.getOrganizationId()))
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException(
+                        "Member", "userId", memberUserId));
+    }
+
+    private OrganizationInvitation requireInvitation(Long userId, Long invitationId) {
+        // Other users' invitations look the same as unknown ones
+        return invitationRepository.findById(invitationId)
+                .filter(invitation -> invitation.getUserId().equals(userId))
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException(
+                        "Invitation", "id", invitationId));
+    }
+
+    private InvitationResponse toResponse(OrganizationInvitation invitation) {
+        return new InvitationResponse(invitation, organizationRepository.findById(invitation.getOrganizationId())
+                .map(Organization::getName)
+                .orElse(null));
+    }
+
+    private void membershipChanged(Long userId) {
+        memberships.invalidate(userId);
+        clusterBus.publish(ClusterMessage.Topic.MEMBERSHIP, userId.toString());
+    }
+
+    private <T> T onDirectory(Supplier<T> work) {
+        return ShardContext.callOn(shardRouter.directoryShard(), () -> transactionTemplate.execute(status -> work.get()));
+    }
+
+    private static OrganizationMember newMember(Long userId, String username, Long organizationId,
+            OrganizationRole role) {
+        OrganizationMember member = new OrganizationMember();
+        member.setUserId(userId);
+        member.setUsername(username);
+        member.setOrganizationId(organizationId);
+        member.setMemberRole(role);
+        return member;
+    }
+}
@@ -0,0 +1,203 @@
+package com.jobtracker.service;
+
+import com.jobtracker.entity.RefreshToken;
+import com.jobtracker.entity.User;
+import com.jobtracker.exception.CustomExceptions;
+import com.jobtracker.repository.RefreshTokenRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.sharding.ShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * RefreshTokenService
+ * Rotating refresh tokens for short-lived access tokens
+ *
+ * A token is "<userId>.<random>": the user id routes the lookup to the
+ * right shard, the random part is the secret. Each refresh revokes the
+ * presented token and issues the next one in the same family. Presenting
+ * an already rotated token means it was copied, so the whole family is
+ * revoked and the session has to log in again.
+ *
+ * The exception is a token rotated less than jwt.refresh-reuse-grace-ms
+ * ago while its session is still live: browser tabs share one stored token
+ * and may refresh with it at the same moment. That caller gets a new token
+ * of the family as well, and any other live token of the family is retired
+ * (so a session never has more than one).
+ *
+ * Callers run issue/rotate/revoke on the user's shard (see userIdOf).
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Value("${jwt.refresh-expiration-ms:1209600000}")
+    private long refreshExpirationMs;
+
+    @Value("${jwt.refresh-reuse-grace-ms:10000}")
+    private long reuseGraceMs;
+
+    /**
+     * Start a new session (family) for a user who just logged in
+     *
+     * @return the raw refresh token, to be handed to the client once
+     */
+    @Transactional
+    public String issue(Long userId) {
+        return create(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchange a refresh token for the next one in its family
+     *
+     * @return the owner and the new raw refresh token
+     * @throws CustomExceptions.InvalidTokenException if the token is unknown,
+     *         expired, or already used outside the reuse grace window
+     */
+    @Transactional(noRollbackFor = CustomExceptions.InvalidTokenException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new CustomExceptions.InvalidTokenException("Invalid refresh token"));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (token.getRevoked()) {
+            if (isConcurrentRefresh(token, now)) {
+                // Another tab of the same session refreshed with this token a moment ago
+                User user = findOwner(token);
+                return new Rotation(user, create(user.getId(), token.getFamilyId()));
+            }
+            // Already rotated or logged out: someone is replaying it
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId());
+            logger.warn("Refresh token reuse for user {}, revoked {} active tokens", token.getUserId(), revoked);
+            throw new CustomExceptions.InvalidTokenException("Refresh token has already been used");
+        }
+        if (token.getExpiresAt().isBefore(now)) {
+            throw new CustomExceptions.InvalidTokenException("Refresh token is expired");
+        }
+
+        User user = findOwner(token);
+
+        token.setRevoked(true);
+        token.setRotatedAt(now);
+        refreshTokenRepository.save(token);
+        return new Rotation(user, create(user.getId(), token.getFamilyId()));
+    }
+
+    /**
+     * End the session a refresh token belongs to (logout)
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * Owner of a raw token, for picking its shard before the lookup
+     *
+     * @throws CustomExceptions.InvalidTokenException if the token is malformed
+     */
+    public static Long userIdOf(String rawToken) {
+        int dot = rawToken == null ? -1 : rawToken.indexOf('.');
+        try {
+            if (dot > 0) {
+                return Long.parseLong(rawToken.substring(0, dot));
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        throw new CustomExceptions.InvalidTokenException("Invalid refresh token");
+    }
+
+    /**
+     * Delete expired tokens, shard by shard
+     */
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 30 3 * * *}")
+    public void deleteExpired() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        shardRouter.forEachShard(() -> {
+            Integer deleted = transactionTemplate.execute(
+                    status -> refreshTokenRepository.deleteExpired(LocalDateTime.now()));
+            logger.info("Deleted {} expired refresh tokens", deleted);
+        });
+    }
+
+    /**
+     * Whether a used token was rotated within the grace window and its
+     * session is still live; if so the session's live token is retired, as
+     * the caller is about to get the replacement
+     */
+    private boolean isConcurrentRefresh(RefreshToken token, LocalDateTime now) {
+        if (token.getRotatedAt() == null
+                || token.getRotatedAt().isBefore(now.minus(Duration.ofMillis(reuseGraceMs)))
+                || token.getExpiresAt().isBefore(now)) {
+            return false;
+        }
+        // None live means the session was logged out since
+        return refreshTokenRepository.supersedeFamily(token.getFamilyId(), now) > 0;
+    }
+
+    private User findOwner(RefreshToken token) {
+        return userRepository.findById(token.getUserId())
+                .orElseThrow(() -> new CustomExceptions.InvalidTokenException("Invalid refresh token"));
+    }
+
+    private String create(Long userId, String familyId) {
+        byte[] secret = new byte[32];
+        random.nextBytes(secret);
+        String rawToken = userId + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+
+        RefreshToken token = new RefreshToken();
+        token.setUserId(userId);
+        token.setTokenHash(hash(rawToken));
+        token.setFamilyId(familyId);
+        token.setExpiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs)));
+        token.setRevoked(false);
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+}
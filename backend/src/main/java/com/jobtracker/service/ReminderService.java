@@ -0,0 +1,226 @@
+package com.jobtracker.service;
+
+import com.jobtracker.cluster.SecondLevelCacheSync;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.Reminder;
+import com.jobtracker.exception.CustomExceptions;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.JobApplicationRepository.DueReminder;
+import com.jobtracker.repository.ReminderRepository;
+import com.jobtracker.sharding.ShardContext;
+import com.jobtracker.sharding.ShardRouter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReminderService
+ * Follow-up reminders for applications stuck in APPLIED/INTERVIEW
+ *
+ * Each application carries an indexed next_reminder_at. The job range-scans
+ * that index for due rows and hands them in chunks to a bounded worker pool.
+ * A due row is claimed with a conditional UPDATE in the same transaction
+ * that writes the reminder, so all state lives in the database: a restart
+ * just picks up whatever is still due, and two nodes never remind twice.
+ * The UPDATE is plain JDBC and only the claimed row is evicted from the
+ * second-level cache.
+ */
+@Service
+public class ReminderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderService.class);
+
+    // Moves a reminder check, but only if nobody else moved it first; updated_at is not touched
+    private static final String RESCHEDULE_SQL = "UPDATE job_applications SET next_reminder_at = ? " +
+            "WHERE id = ? AND next_reminder_at = ?";
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private ReminderRepository reminderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private SecondLevelCacheSync secondLevelCacheSync;
+
+    @Value("${reminders.stale-days:7}")
+    private int staleDays;
+
+    @Value("${reminders.batch-size:500}")
+    private int batchSize;
+
+    @Value("${reminders.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${reminders.workers:4}")
+    private int workers;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService workerPool;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // Bounded queue; when it is full the scheduler thread runs the chunk itself
+        workerPool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workerPool.shutdown();
+    }
+
+    /**
+     * When an application with this status should first be checked
+     */
+    public LocalDateTime nextReminderAt(ApplicationStatus status) {
+        return status != null && status.needsFollowUp()
+                ? LocalDateTime.now().plusDays(staleDays)
+                : null;
+    }
+
+    /**
+     * Process everything that is due, shard by shard
+     */
+    @Scheduled(fixedDelayString = "${reminders.poll-ms:60000}")
+    public void processDueReminders() {
+        shardRouter.forEachShard(this::processShard);
+    }
+
+    /**
+     * Pending reminders for a user, newest first
+     */
+    public Page<Reminder> getPendingReminders(Long userId, int page, int size) {
+        return reminderRepository.findByUserIdAndDismissedFalse(
+                userId, PageRequest.of(page, size, Sort.by("createdAt").descending()));
+    }
+
+    /**
+     * Dismiss a reminder
+     */
+    @Transactional
+    public void dismissReminder(Long id, Long userId) {
+        Reminder reminder = reminderRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("Reminder", "id", id));
+        reminder.setDismissed(true);
+        reminderRepository.save(reminder);
+    }
+
+    /**
+     * Process everything due on the current shard, one batch at a time
+     */
+    private void processShard() {
+        String shard = ShardContext.get();
+        LocalDateTime now = LocalDateTime.now();
+        List<DueReminder> due;
+        do {
+            due = jobApplicationRepository.findDueReminders(now, PageRequest.of(0, batchSize));
+
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int from = 0; from < due.size(); from += chunkSize) {
+                List<DueReminder> chunk = due.subList(from, Math.min(from + chunkSize, due.size()));
+                chunks.add(workerPool.submit(() -> ShardContext.runOn(shard, () ->
+                        transactionTemplate.executeWithoutResult(status -> chunk.forEach(this::process)))));
+            }
+
+            if (!awaitAll(chunks)) {
+                return; // leave the rest for the next run rather than spin on a failing chunk
+            }
+        } while (due.size() == batchSize);
+    }
+
+    private void process(DueReminder due) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Deleted or no longer waiting on the company: stop checking
+        if (due.getDeleted() || !due.getStatus().needsFollowUp()) {
+            reschedule(due, null);
+            return;
+        }
+
+        // Edited since the check was scheduled: push it out instead of reminding
+        LocalDateTime staleAt = due.getUpdatedAt() == null ? now : due.getUpdatedAt().plusDays(staleDays);
+        if (staleAt.isAfter(now)) {
+            reschedule(due, staleAt);
+            return;
+        }
+
+        // Still stale: remind again after another staleDays of silence
+        int claimed = reschedule(due, now.plusDays(staleDays));
+        if (claimed == 1) {
+            long idleDays = due.getUpdatedAt() == null
+                    ? staleDays
+                    : Duration.between(due.getUpdatedAt(), now).toDays();
+
+            Reminder reminder = new Reminder();
+            reminder.setUserId(due.getUserId());
+            reminder.setApplicationId(due.getId());
+            reminder.setMessage(String.format("No update on %s at %s for %d days - time to follow up?",
+                    due.getRole(), due.getCompany(), idleDays));
+            reminder.setDismissed(false);
+            reminderRepository.save(reminder);
+        }
+    }
+
+    /**
+     * @return 1 if this caller claimed the due reminder, 0 otherwise
+     */
+    private int reschedule(DueReminder due, LocalDateTime next) {
+        int claimed = jdbc.update(RESCHEDULE_SQL,
+                next == null ? null : Timestamp.valueOf(next), due.getId(), Timestamp.valueOf(due.getNextReminderAt()));
+        if (claimed == 1) {
+            secondLevelCacheSync.evictAfterCommit(due.getUserId(), due.getId());
+        }
+        return claimed;
+    }
+
+    private boolean awaitAll(List<Future<?>> chunks) {
+        boolean ok = true;
+        for (Future<?> chunk : chunks) {
+            try {
+                chunk.get();
+            } catch (ExecutionException e) {
+                logger.error("Reminder chunk failed: {}", e.getCause().getMessage());
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return ok;
+    }
+}
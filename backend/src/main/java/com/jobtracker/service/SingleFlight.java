@@ -0,0 +1,96 @@
+package com.jobtracker.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight
+ * Lets concurrent identical reads share one execution and its result
+ *
+ * The first caller for a key registers a future with a single putIfAbsent
+ * and runs the load on its own thread; callers arriving while it runs wait
+ * for that future instead of querying again. The entry is removed as soon
+ * as the load finishes, so nothing is cached: a later caller always runs a
+ * fresh load. No lock is held while loading.
+ *
+ * Results are handed to several callers, so they must not be modified.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    /**
+     * @param name tags the metrics: singleflight.executed, singleflight.coalesced
+     *        and singleflight.in-flight
+     */
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("singleflight.executed")
+                .description("Reads that ran a query")
+                .tag("read", name)
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("singleflight.coalesced")
+                .description("Reads answered by an identical read already running")
+                .tag("read", name)
+                .register(meterRegistry);
+        Gauge.builder("singleflight.in-flight", inFlight, Map::size)
+                .description("Reads currently running")
+                .tag("read", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Result of the load for this key, shared with any identical call running now
+     */
+    public V execute(K key, Supplier<V> load) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            V value = load.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Stop sharing the running loads for matching keys, e.g. after a write
+     * they may have missed; later callers run a load of their own
+     */
+    public void forget(Predicate<K> keys) {
+        inFlight.keySet().removeIf(keys);
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.jobtracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobtracker.cluster.ClusterBus;
+import com.jobtracker.cluster.ClusterMessage;
+import com.jobtracker.dto.JobApplicationDTOs.JobApplicationResponse;
+import com.jobtracker.dto.JobApplicationDTOs.Suggestion;
+import com.jobtracker.dto.JobApplicationDTOs.SuggestionsResponse;
+import com.jobtracker.event.ApplicationChangeEvent;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.JobApplicationRepository.ValueCount;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * SuggestionService
+ * Typeahead for company and role names the user has entered before
+ *
+ * Each active user gets a small in-memory index of their distinct company
+ * and role names with usage counts, built from two grouped queries on the
+ * first lookup. Names are normalized (case, accents, punctuation) and
+ * indexed from the start of every word, so "eng" finds "Backend Engineer".
+ * Lookups never touch the database; creates add to the index, and edits
+ * or deletes that may have changed a name drop it to be rebuilt.
+ *
+ * Memory is bounded: indexes of users idle for suggest.idle-minutes are
+ * evicted, and at most suggest.max-users are kept. Each node holds its own
+ * indexes; a write handled by another node drops the user's index through
+ * the ClusterBus, and suggest.max-age-minutes bounds staleness if that
+ * message is lost.
+ */
+@Service
+public class SuggestionService {
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private ClusterBus clusterBus;
+
+    @Value("${suggest.max-users:10000}")
+    private long maxUsers;
+
+    @Value("${suggest.idle-minutes:30}")
+    private long idleMinutes;
+
+    @Value("${suggest.max-age-minutes:10}")
+    private long maxAgeMinutes;
+
+    private Cache<Long, UserIndex> indexes;
+
+    @PostConstruct
+    void init() {
+        indexes = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .expireAfterWrite(Duration.ofMinutes(maxAgeMinutes))
+                .build();
+        clusterBus.subscribe(ClusterMessage.Topic.APPLICATION,
+                key -> indexes.invalidate(Long.valueOf(key.substring(0, key.indexOf(':')))));
+    }
+
+    /**
+     * Company and role names starting with the prefix (at any word), most used first
+     */
+    public SuggestionsResponse suggest(Long userId, String prefix, int limit) {
+        String key = ApplicationKeys.normalize(prefix);
+        if (key.isEmpty()) {
+            return new SuggestionsResponse(List.of(), List.of());
+        }
+        UserIndex index = indexes.get(userId, this::load);
+        return new SuggestionsResponse(index.companies.find(key, limit), index.roles.find(key, limit));
+    }
+
+    /**
+     * Keep indexes in step with committed changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChange(ApplicationChangeEvent change) {
+        UserIndex index = indexes.getIfPresent(change.getUserId());
+        if (index == null) {
+            return;
+        }
+
+        switch (change.getType()) {
+            case CREATED -> {
+                JobApplicationResponse created = (JobApplicationResponse) change.getData();
+                index.companies.add(created.getCompany(), 1);
+                index.roles.add(created.getRole(), 1);
+            }
+            // The names before the change are not known here, so rebuild on next use
+            case UPDATED, DELETED -> indexes.invalidate(change.getUserId());
+        }
+    }
+
+    private UserIndex load(Long userId) {
+        UserIndex index = new UserIndex();
+        for (ValueCount company : jobApplicationRepository.countByCompany(userId)) {
+            index.companies.add(company.getValue(), company.getCount());
+        }
+        for (ValueCount role : jobApplicationRepository.countByRole(userId)) {
+            index.roles.add(role.getValue(), role.getCount());
+        }
+        return index;
+    }
+
+    private static final class UserIndex {
+        private final NameIndex companies = new NameIndex();
+        private final NameIndex roles = new NameIndex();
+    }
+
+    /**
+     * Distinct names of one field with their counts
+     * Sorted map from each word-start suffix of a normalized name to the
+     * name, so a prefix lookup is one subMap range scan.
+     */
+    private static final class NameIndex {
+
+        private final Map<String, Name> byNormalized = new HashMap<>();
+        private final TreeMap<String, Set<Name>> byWordStart = new TreeMap<>();
+
+        synchronized void add(String value, long count) {
+            String normalized = ApplicationKeys.normalize(value);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            Name name = byNormalized.get(normalized);
+            if (name == null) {
+                name = new Name(value);
+                byNormalized.put(normalized, name);
+                for (int start = 0; start >= 0; start = nextWord(normalized, start)) {
+                    byWordStart.computeIfAbsent(normalized.substring(start), key -> new LinkedHashSet<>()).add(name);
+                }
+            }
+            // Spellings that normalize alike share a count; show the most used one
+            if (count > name.bestCount) {
+                name.display = value;
+                name.bestCount = count;
+            }
+            name.count += count;
+        }
+
+        synchronized List<Suggestion> find(String prefix, int limit) {
+            Set<Name> matches = new LinkedHashSet<>();
+            byWordStart.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                    .values()
+                    .forEach(matches::addAll);
+
+            List<Name> ranked = new ArrayList<>(matches);
+            ranked.sort(Comparator.comparingLong((Name name) -> name.count).reversed()
+                    .thenComparing(name -> name.display));
+
+            List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (Name name : ranked.subList(0, Math.min(limit, ranked.size()))) {
+                suggestions.add(new Suggestion(name.display, name.count));
+            }
+            return suggestions;
+        }
+
+        private static int nextWord(String normalized, int from) {
+            int space = normalized.indexOf(' ', from);
+            return space < 0 ? -1 : space + 1;
+        }
+    }
+
+    private static final class Name {
+        private String display;
+        private long bestCount;
+        private long count;
+
+        private Name(String display) {
+            this.display = display;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.jobtracker.service;
+
+import com.jobtracker.event.ApplicationChangeEvent;
+import com.jobtracker.event.ApplicationEventBus;
+import com.jobtracker.exception.CustomExceptions;
+import com.jobtracker.repository.OrganizationMemberRepository;
+import com.jobtracker.sharding.ShardContext;
+import com.jobtracker.sharding.ShardRouter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TenantRollupService
+ * Keeps each organisation member's application counts up to date
+ *
+ * A committed change marks its user dirty if they belong to an
+ * organisation. Every tenants.rollup-ms the dirty users' counts are
+ * recomputed with the grouped, index-only status query on their shard and
+ * written to their member row, so a burst of edits costs one recount.
+ * Changes arrive through the outbox (ApplicationEventBus), once per
+ * cluster and even if the node that made them stopped right after the
+ * commit. Marks not yet flushed when a node stops are lost; the nightly
+ * refresh recounts every member to cover that.
+ */
+@Service
+public class TenantRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantRollupService.class);
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private OrganizationMemberRepository memberRepository;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ApplicationEventBus eventBus;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${tenants.rollup-batch-size:500}")
+    private int batchSize;
+
+    private TransactionTemplate transactionTemplate;
+
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        eventBus.subscribe(this::onApplicationChange);
+    }
+
+    public void onApplicationChange(ApplicationChangeEvent change) {
+        if (organizationService.organizationOf(change.getUserId()) != null) {
+            dirty.add(change.getUserId());
+        }
+    }
+
+    /**
+     * Recount a member with the next flush, e.g. right after they joined
+     */
+    public void markDirty(Long userId) {
+        dirty.add(userId);
+    }
+
+    /**
+     * Recount every dirty member
+     */
+    @Scheduled(fixedDelayString = "${tenants.rollup-ms:5000}")
+    public void flush() {
+        int updated = 0;
+        for (Iterator<Long> users = dirty.iterator(); users.hasNext(); ) {
+            Long userId = users.next();
+            users.remove();
+            try {
+                updated += recount(userId);
+            } catch (CustomExceptions.ServiceUnavailableException e) {
+                // Being moved between shards; try again with the next flush
+                dirty.add(userId);
+            }
+        }
+        if (updated > 0) {
+            logger.debug("Updated rollups of {} organisation members", updated);
+        }
+    }
+
+    /**
+     * Recount all members, walking the member table in id order
+     */
+    @Scheduled(cron = "${tenants.rollup-refresh-cron:0 30 4 * * *}")
+    public void refreshAll() {
+        long after = 0;
+        List<Long> userIds;
+        do {
+            long from = after;
+            userIds = ShardContext.callOn(shardRouter.directoryShard(),
+                    () -> memberRepository.findUserIdsAfter(from, PageRequest.of(0, batchSize)));
+            dirty.addAll(userIds);
+            if (!userIds.isEmpty()) {
+                after = userIds.get(userIds.size() - 1);
+            }
+            flush();
+        } while (userIds.size() == batchSize);
+    }
+
+    private int recount(Long userId) {
+        Map<String, Long> stats = ShardContext.callOn(shardRouter.shardForUserId(userId),
+                () -> jobApplicationService.getStatistics(userId));
+
+        Integer updated = ShardContext.callOn(shardRouter.directoryShard(),
+                () -> transactionTemplate.execute(status -> memberRepository.updateStats(
+                        userId,
+                        stats.get("applied"),
+                        stats.get("interview"),
+                        stats.get("offer"),
+                        stats.get("rejected"),
+                        stats.get("total"),
+                        LocalDateTime.now())));
+        return updated == null ? 0 : updated;
+    }
+}
@@ -0,0 +1,78 @@
+package com.jobtracker.sharding;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * IdWatermark
+ * Keeps ShardSafeIdGenerator's seconds in the id_watermarks table on the
+ * directory shard, so a restarted node does not reissue ids
+ *
+ * The reservation runs sharding.id-reserve-seconds ahead and is extended
+ * every half period, so ids rarely wait for it. The generator also resumes
+ * after the stored second on its first id after a start.
+ * Reads and writes run in a transaction of their own, as they may be called
+ * while an entity is saved in another shard's transaction.
+ */
+@Component
+public class IdWatermark implements ShardSafeIdGenerator.Watermark {
+
+    private static final String LOAD_SQL = "SELECT reserved_second FROM id_watermarks WHERE node_id = ?";
+
+    private static final String RESERVE_SQL = "INSERT INTO id_watermarks (node_id, reserved_second) VALUES (?, ?) "
+            + "ON DUPLICATE KEY UPDATE reserved_second = GREATEST(reserved_second, VALUES(reserved_second))";
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardingProperties shardingProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        ShardSafeIdGenerator.setWatermark(this);
+    }
+
+    // Every half reservation period
+    @Scheduled(fixedDelayString = "#{${sharding.id-reserve-seconds:60} * 500}")
+    void reserveAhead() {
+        ShardSafeIdGenerator.reserveAhead();
+    }
+
+    @Override
+    public long load(long nodeId) {
+        List<Long> reserved = onDirectory(() -> jdbc.queryForList(LOAD_SQL, Long.class, nodeId));
+        return reserved.isEmpty() ? 0 : reserved.get(0);
+    }
+
+    @Override
+    public long reserve(long nodeId, long second) {
+        long reserved = second + shardingProperties.getIdReserveSeconds();
+        onDirectory(() -> jdbc.update(RESERVE_SQL, nodeId, reserved));
+        return reserved;
+    }
+
+    private <T> T onDirectory(Supplier<T> work) {
+        return ShardContext.callOn(shardRouter.directoryShard(),
+                () -> transactionTemplate.execute(status -> work.get()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobtracker.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * ShardContext
+ * The shard the current thread's database work goes to
+ *
+ * Read by ShardRoutingDataSource when a connection is taken, i.e. when a
+ * transaction starts, so it has to be set before entering @Transactional
+ * code. Unset means the first (directory) shard.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> current = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String get() {
+        return current.get();
+    }
+
+    public static void set(String shard) {
+        current.set(shard);
+    }
+
+    public static void clear() {
+        current.remove();
+    }
+
+    public static <T> T callOn(String shard, Supplier<T> work) {
+        String previous = current.get();
+        current.set(shard);
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void runOn(String shard, Runnable work) {
+        callOn(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private static void restore(String previous) {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+}
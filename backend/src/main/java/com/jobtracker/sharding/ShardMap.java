@@ -0,0 +1,175 @@
+package com.jobtracker.sharding;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobtracker.cluster.ClusterBus;
+import com.jobtracker.cluster.ClusterMessage;
+import jakarta.annotation.PostConstruct;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ShardMap
+ * Directory of which shard each user lives on, kept on the first shard
+ *
+ * The hash ring only decides where a new user goes; after that this table
+ * is authoritative, so moving a user is a copy plus a single row update.
+ * Lookups by username (every authenticated request) are cached per node
+ * for sharding.directory-cache-ttl-ms; a node that changes an entry tells
+ * the others through the ClusterBus to drop theirs.
+ */
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardMap {
+
+    private static final RowMapper<Entry> ENTRY_MAPPER = (rs, rowNum) -> new Entry(
+            rs.getLong("user_id"),
+            rs.getString("username"),
+            rs.getString("shard"),
+            rs.getBoolean("moving"));
+
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Autowired
+    private ShardingProperties shardingProperties;
+
+    @Autowired
+    private ClusterBus clusterBus;
+
+    private JdbcTemplate jdbc;
+    private Cache<String, Entry> byUsername;
+
+    @PostConstruct
+    void init() {
+        DataSource directory = shardRoutingDataSource.getResolvedDataSources()
+                .get(shardingProperties.getShards().get(0).getName());
+
+        Flyway.configure()
+                .dataSource(directory)
+                .locations("classpath:db/directory")
+                .table("flyway_directory_history")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        jdbc = new JdbcTemplate(directory);
+        byUsername = Caffeine.newBuilder()
+                .maximumSize(shardingProperties.getDirectoryCacheSize())
+                .expireAfterWrite(Duration.ofMillis(shardingProperties.getDirectoryCacheTtlMs()))
+                .build();
+        clusterBus.subscribe(ClusterMessage.Topic.SHARD_MAP, byUsername::invalidate);
+    }
+
+    public Optional<Entry> findByUsername(String username) {
+        Entry entry = byUsername.getIfPresent(username);
+        if (entry == null) {
+            entry = jdbc.query("SELECT user_id, username, shard, moving FROM shard_map WHERE username = ?",
+                    ENTRY_MAPPER, username).stream().findFirst().orElse(null);
+            if (entry != null) {
+                byUsername.put(username, entry);
+            }
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    public Optional<Entry> findByUserId(Long userId) {
+        return jdbc.query("SELECT user_id, username, shard, moving FROM shard_map WHERE user_id = ?",
+                ENTRY_MAPPER, userId).stream().findFirst();
+    }
+
+    public boolean existsByUsername(String username) {
+        return Boolean.TRUE.equals(jdbc.queryForObject(
+                "SELECT COUNT(*) > 0 FROM shard_map WHERE username = ?", Boolean.class, username));
+    }
+
+    public boolean existsByEmail(String email) {
+        return Boolean.TRUE.equals(jdbc.queryForObject(
+                "SELECT COUNT(*) > 0 FROM shard_map WHERE email = ?", Boolean.class, email));
+    }
+
+    /**
+     * @throws org.springframework.dao.DuplicateKeyException if the username or email is taken
+     */
+    public void insert(Long userId, String username, String email, String shard) {
+        jdbc.update("INSERT INTO shard_map (user_id, username, email, shard, moving) VALUES (?, ?, ?, ?, FALSE)",
+                userId, username, email, shard);
+    }
+
+    public void delete(Long userId) {
+        Optional<Entry> entry = findByUserId(userId);
+        jdbc.update("DELETE FROM shard_map WHERE user_id = ?", userId);
+        entry.ifPresent(deleted -> changed(deleted.username()));
+    }
+
+    /**
+     * Flag a user as moving; requests for them get 503 until the move ends
+     *
+     * @return false if the user is unknown or already moving
+     */
+    public boolean markMoving(Entry entry) {
+        boolean marked = jdbc.update("UPDATE shard_map SET moving = TRUE WHERE user_id = ? AND moving = FALSE",
+                entry.userId()) == 1;
+        changed(entry.username());
+        return marked;
+    }
+
+    public void completeMove(Entry entry, String shard) {
+        jdbc.update("UPDATE shard_map SET shard = ?, moving = FALSE WHERE user_id = ?", shard, entry.userId());
+        changed(entry.username());
+    }
+
+    public void cancelMove(Entry entry) {
+        jdbc.update("UPDATE shard_map SET moving = FALSE WHERE user_id = ?", entry.userId());
+        changed(entry.username());
+    }
+
+    /**
+     * Keyset page over all entries, for rebalancing
+     */
+    public List<Entry> findPage(long afterUserId, int limit) {
+        return jdbc.query("SELECT user_id, username, shard, moving FROM shard_map "
+                + "WHERE user_id > ? ORDER BY user_id LIMIT ?", ENTRY_MAPPER, afterUserId, limit);
+    }
+
+    public Map<String, Long> countByShard() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        jdbc.query("SELECT shard, COUNT(*) AS users FROM shard_map GROUP BY shard ORDER BY shard",
+                rs -> { counts.put(rs.getString("shard"), rs.getLong("users")); });
+        return counts;
+    }
+
+    /**
+     * Add users that predate sharding (they live on the first shard, which
+     * holds the directory) to the map, so they can be rebalanced
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int importUnmapped() {
+        return jdbc.update("INSERT INTO shard_map (user_id, username, email, shard, moving) "
+                + "SELECT u.id, u.username, u.email, ?, FALSE FROM users u "
+                + "WHERE NOT EXISTS (SELECT 1 FROM shard_map m WHERE m.user_id = u.id)",
+                shardingProperties.getShards().get(0).getName());
+    }
+
+    private void changed(String username) {
+        byUsername.invalidate(username);
+        clusterBus.publish(ClusterMessage.Topic.SHARD_MAP, username);
+    }
+
+    public record Entry(Long userId, String username, String shard, boolean moving) {
+    }
+}
@@ -0,0 +1,195 @@
+package com.jobtracker.sharding;
+
+import com.jobtracker.exception.CustomExceptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ShardRebalancer
+ * Moves users between shards
+ *
+ * A move flags the user in the shard map (their requests get 503), waits
+ * for every node's cached map entry to expire, copies the user's rows to
+ * the target shard in one transaction, repoints the map and finally
+ * deletes the source rows. Ids are generated by ShardSafeIdGenerator, so
+ * copied rows never collide on the target.
+ */
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardRebalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    /**
+     * Tables holding a user's data, in foreign-key order, with the column
+     * naming the owning user
+     */
+    private static final List<UserTable> USER_TABLES = List.of(
+            new UserTable("users", "id"),
+            new UserTable("user_roles", "user_id"),
+            new UserTable("job_applications", "user_id"),
+            new UserTable("reminders", "user_id"),
+            new UserTable("refresh_tokens", "user_id"),
+            new UserTable("attachments", "user_id"),
+            new UserTable("application_texts", "user_id"),
+            new UserTable("idempotency_keys", "user_id"));
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Autowired
+    private ShardMap shardMap;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Autowired
+    private ShardingProperties shardingProperties;
+
+    /**
+     * Users whose shard differs from where the hash ring now places them,
+     * e.g. after adding a shard or marking one as draining
+     */
+    public List<ShardMap.Entry> plan(int limit) {
+        List<ShardMap.Entry> misplaced = new ArrayList<>();
+        long after = Long.MIN_VALUE;
+        List<ShardMap.Entry> page;
+        do {
+            page = shardMap.findPage(after, PAGE_SIZE);
+            for (ShardMap.Entry entry : page) {
+                if (!entry.moving() && !entry.shard().equals(shardRouter.placementFor(entry.username()))) {
+                    misplaced.add(entry);
+                    if (misplaced.size() == limit) {
+                        return misplaced;
+                    }
+                }
+                after = entry.userId();
+            }
+        } while (page.size() == PAGE_SIZE);
+        return misplaced;
+    }
+
+    /**
+     * Move up to limit misplaced users to their ring placement
+     *
+     * @return number of users moved
+     */
+    public int rebalance(int limit) {
+        List<ShardMap.Entry> claimed = plan(limit).stream().filter(shardMap::markMoving).toList();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        awaitDirectoryCaches();
+
+        int moved = 0;
+        for (ShardMap.Entry entry : claimed) {
+            try {
+                move(entry, shardRouter.placementFor(entry.username()));
+                moved++;
+            } catch (RuntimeException e) {
+                logger.error("Moving user {} off shard {} failed: {}", entry.userId(), entry.shard(), e.getMessage());
+            }
+        }
+        logger.info("Rebalanced {} of {} misplaced users", moved, claimed.size());
+        return moved;
+    }
+
+    /**
+     * Move one user to a specific shard
+     */
+    public void moveUser(Long userId, String target) {
+        if (!shardRouter.shards().contains(target)) {
+            throw new CustomExceptions.BadRequestException("Unknown shard: " + target);
+        }
+        ShardMap.Entry entry = shardMap.findByUserId(userId)
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("User", "id", userId));
+        if (entry.shard().equals(target)) {
+            return;
+        }
+        if (!shardMap.markMoving(entry)) {
+            throw new CustomExceptions.BadRequestException("User " + userId + " is already being moved");
+        }
+        awaitDirectoryCaches();
+        move(entry, target);
+    }
+
+    /**
+     * Copy, repoint, delete; expects the entry to be marked as moving
+     */
+    private void move(ShardMap.Entry entry, String target) {
+        JdbcTemplate source = new JdbcTemplate(shard(entry.shard()));
+        try {
+            Integer pending = source.queryForObject(
+                    "SELECT COUNT(*) FROM application_outbox WHERE user_id = ?", Integer.class, entry.userId());
+            if (pending != null && pending > 0) {
+                throw new CustomExceptions.ServiceUnavailableException(
+                        pending + " outbox events not yet relayed, retry later");
+            }
+
+            DataSource targetDataSource = shard(target);
+            JdbcTemplate targetJdbc = new JdbcTemplate(targetDataSource);
+            new TransactionTemplate(new DataSourceTransactionManager(targetDataSource)).executeWithoutResult(
+                    status -> USER_TABLES.forEach(table -> copy(table, entry.userId(), source, targetJdbc)));
+        } catch (RuntimeException e) {
+            shardMap.cancelMove(entry);
+            throw e;
+        }
+
+        shardMap.completeMove(entry, target);
+
+        try {
+            new TransactionTemplate(new DataSourceTransactionManager(shard(entry.shard()))).executeWithoutResult(
+                    status -> USER_TABLES.reversed().forEach(table -> source.update(
+                            "DELETE FROM " + table.name() + " WHERE " + table.userColumn() + " = ?",
+                            entry.userId())));
+        } catch (RuntimeException e) {
+            // The user is already served from the target; the old rows are just unreachable
+            logger.error("User {} moved to {} but cleanup on {} failed: {}",
+                    entry.userId(), target, entry.shard(), e.getMessage());
+        }
+    }
+
+    private void copy(UserTable table, Long userId, JdbcTemplate source, JdbcTemplate target) {
+        List<Map<String, Object>> rows = source.queryForList(
+                "SELECT * FROM " + table.name() + " WHERE " + table.userColumn() + " = ?", userId);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "INSERT INTO " + table.name() + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+        target.batchUpdate(sql, rows.stream()
+                .map(row -> columns.stream().map(row::get).toArray())
+                .toList());
+    }
+
+    private DataSource shard(String name) {
+        return shardRoutingDataSource.getResolvedDataSources().get(name);
+    }
+
+    private void awaitDirectoryCaches() {
+        try {
+            Thread.sleep(shardingProperties.getDirectoryCacheTtlMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for shard map caches", e);
+        }
+    }
+
+    private record UserTable(String name, String userColumn) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.jobtracker.sharding;
+
+import com.jobtracker.exception.CustomExceptions;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * ShardRouter
+ * Decides which shard a user's data lives on
+ *
+ * With sharding.enabled=false there is a single "default" shard and no
+ * shard map, so every call is a cheap no-op and the application runs on
+ * the plain spring.datasource as before.
+ */
+@Component
+public class ShardRouter {
+
+    public static final String DEFAULT_SHARD = "default";
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRouter.class);
+
+    @Autowired
+    private ShardingProperties shardingProperties;
+
+    @Autowired(required = false)
+    private ShardMap shardMap;
+
+    @Value("${cluster.channel:none}")
+    private String clusterChannel;
+
+    private List<String> shards;
+    private ConsistentHashRing ring;
+
+    @PostConstruct
+    void init() {
+        ShardSafeIdGenerator.setNodeId(nodeId());
+
+        if (!isSharded()) {
+            shards = List.of(DEFAULT_SHARD);
+            return;
+        }
+
+        shards = shardingProperties.getShards().stream().map(ShardingProperties.Shard::getName).toList();
+        List<String> active = shardingProperties.getShards().stream()
+                .filter(shard -> !shard.isDraining())
+                .map(ShardingProperties.Shard::getName)
+                .toList();
+        ring = new ConsistentHashRing(active, shardingProperties.getVirtualNodes());
+        logger.info("Sharding across {} (accepting new users: {})", shards, active);
+    }
+
+    public boolean isSharded() {
+        return shardingProperties.isEnabled();
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    /**
+     * Shard holding this user; unknown users resolve to the first shard,
+     * where accounts that predate sharding live
+     *
+     * @throws CustomExceptions.ServiceUnavailableException while the user is being moved
+     */
+    public String shardForUsername(String username) {
+        if (!isSharded()) {
+            return DEFAULT_SHARD;
+        }
+        return shardMap.findByUsername(username)
+                .map(entry -> {
+                    if (entry.moving()) {
+                        throw new CustomExceptions.ServiceUnavailableException(
+                                "Account is being migrated, please retry shortly");
+                    }
+                    return entry.shard();
+                })
+                .orElse(shards.get(0));
+    }
+
+    /**
+     * Shard holding this user, by id (same rules as shardForUsername)
+     *
+     * @throws CustomExceptions.ServiceUnavailableException while the user is being moved
+     */
+    public String shardForUserId(Long userId) {
+        if (!isSharded()) {
+            return DEFAULT_SHARD;
+        }
+        return shardMap.findByUserId(userId)
+                .map(entry -> {
+                    if (entry.moving()) {
+                        throw new CustomExceptions.ServiceUnavailableException(
+                                "Account is being migrated, please retry shortly");
+                    }
+                    return entry.shard();
+                })
+                .orElse(shards.get(0));
+    }
+
+    /**
+     * Shard holding the shard map and other data that is not per user
+     * (organisations); the default shard when not sharded
+     */
+    public String directoryShard() {
+        return shards.get(0);
+    }
+
+    /**
+     * Where the hash ring puts a user (new users, and the target of a rebalance)
+     */
+    public String placementFor(String username) {
+        return isSharded() ? ring.shardFor(username) : DEFAULT_SHARD;
+    }
+
+    /**
+     * Record a newly created user in the shard map
+     * Must run inside the transaction that inserts the user on its shard;
+     * the entry is removed again if that transaction rolls back.
+     *
+     * @throws CustomExceptions.DuplicateResourceException if the username or
+     *         email is taken on any shard
+     */
+    public void register(Long userId, String username, String email) {
+        if (!isSharded()) {
+            return;
+        }
+        if (shardMap.existsByUsername(username)) {
+            throw new CustomExceptions.DuplicateResourceException("User", "username", username);
+        }
+        if (shardMap.existsByEmail(email)) {
+            throw new CustomExceptions.DuplicateResourceException("User", "email", email);
+        }
+
+        try {
+            shardMap.insert(userId, username, email, ShardContext.get());
+        } catch (DuplicateKeyException e) {
+            throw new CustomExceptions.DuplicateResourceException("User already exists: " + username);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    shardMap.delete(userId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Run a task once per shard, e.g. a scheduled job
+     */
+    public void forEachShard(Runnable task) {
+        for (String shard : shards) {
+            ShardContext.runOn(shard, task);
+        }
+    }
+
+    /**
+     * Every node of a cluster mints ids with its own node id; a default
+     * shared by all of them could collide within one second
+     */
+    private int nodeId() {
+        Integer nodeId = shardingProperties.getNodeId();
+        if (nodeId != null) {
+            return nodeId;
+        }
+        if (!"none".equals(clusterChannel)) {
+            throw new IllegalStateException("sharding.node-id must be set, to a different value on every node, "
+                    + "when cluster.channel=" + clusterChannel);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,19 @@
+package com.jobtracker.sharding;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ShardSafeId
+ * Marks an id generated by ShardSafeIdGenerator instead of the database,
+ * for tables whose rows move between shards
+ */
+@IdGeneratorType(ShardSafeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface ShardSafeId {
+}
@@ -0,0 +1,129 @@
+package com.jobtracker.sharding;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.time.Instant;
+
+/**
+ * ShardSafeIdGenerator
+ * Ids that are unique across shards and application instances
+ *
+ * Layout (53 bits, so ids stay exact as JavaScript numbers):
+ * 32 bits of seconds since 2024-01-01 | 6 bits node id | 15 bits sequence.
+ * Ids still increase over time, and a node never waits: when a second's
+ * sequence runs out (or the clock steps back) it borrows the next second.
+ *
+ * Neither the clock nor the current time says which seconds a restarted
+ * node already used, so with a Watermark (see IdWatermark) the generator
+ * reserves seconds before using them, and resumes after the reserved ones
+ * when it issues its first id.
+ */
+public class ShardSafeIdGenerator implements IdentifierGenerator {
+
+    static final int NODE_BITS = 6;
+    static final int SEQUENCE_BITS = 15;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long EPOCH_SECOND = 1704067200L; // 2024-01-01T00:00:00Z
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile long nodeId;
+
+    // Guarded by the class lock
+    private static long lastSecond = -1;
+    private static long sequence;
+    private static Watermark watermark;
+    private static long reservedSecond = -1; // -1: not loaded yet
+
+    /**
+     * Durable record of the highest second a node id may have used
+     */
+    public interface Watermark {
+
+        /**
+         * Highest second reserved for this node id, 0 if none
+         */
+        long load(long nodeId);
+
+        /**
+         * Reserve every second up to at least this one
+         *
+         * @return the highest second now reserved
+         */
+        long reserve(long nodeId, long second);
+    }
+
+    public static synchronized void setNodeId(int id) {
+        if (id < 0 || id > MAX_NODE_ID) {
+            throw new IllegalArgumentException("sharding.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        nodeId = id;
+        reservedSecond = -1;
+    }
+
+    public static synchronized void setWatermark(Watermark store) {
+        watermark = store;
+        reservedSecond = -1;
+    }
+
+    /**
+     * Next id; with a watermark, this waits for the database on the first
+     * call, and when reserveAhead has not kept ahead of the seconds used
+     */
+    public static synchronized long nextId() {
+        if (watermark != null && reservedSecond < 0) {
+            // Continue after every second this node id may have used before
+            reservedSecond = watermark.load(nodeId);
+            if (reservedSecond >= lastSecond) {
+                lastSecond = reservedSecond;
+                sequence = SEQUENCE_MASK;
+            }
+        }
+
+        long second = Instant.now().getEpochSecond() - EPOCH_SECOND;
+        if (second > lastSecond) {
+            lastSecond = second;
+            sequence = 0;
+        } else if (++sequence > SEQUENCE_MASK) {
+            lastSecond++;
+            sequence = 0;
+        }
+
+        if (watermark != null && lastSecond > reservedSecond) {
+            // If this fails no id is issued, and the next call tries again
+            reservedSecond = watermark.reserve(nodeId, lastSecond);
+        }
+        return (lastSecond << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * Extend the reservation from the current second, without holding up
+     * nextId while the database is written
+     */
+    public static void reserveAhead() {
+        Watermark store;
+        long node;
+        long second;
+        synchronized (ShardSafeIdGenerator.class) {
+            if (watermark == null || reservedSecond < 0) {
+                return;
+            }
+            store = watermark;
+            node = nodeId;
+            second = Math.max(lastSecond, Instant.now().getEpochSecond() - EPOCH_SECOND);
+        }
+
+        long reserved = store.reserve(node, second);
+        synchronized (ShardSafeIdGenerator.class) {
+            if (store == watermark && node == nodeId && reservedSecond >= 0) {
+                reservedSecond = Math.max(reservedSecond, reserved);
+            }
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+}
@@ -0,0 +1,60 @@
+package com.jobtracker.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ShardingProperties
+ * sharding.* configuration
+ *
+ * The first shard also holds the shard map (user -> shard directory).
+ * A shard marked draining keeps serving its users but gets no new ones,
+ * and a rebalance moves its users off.
+ */
+@Data
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Distinguishes application instances in generated ids (0-63)
+     * Required when cluster.channel is not none; a single node defaults to 0
+     */
+    private Integer nodeId;
+
+    /**
+     * Seconds of ids a node reserves in id_watermarks at a time; a restart
+     * resumes after the reservation, at most this far ahead of the clock
+     */
+    private long idReserveSeconds = 60;
+
+    /**
+     * Points per shard on the consistent-hash ring
+     */
+    private int virtualNodes = 160;
+
+    /**
+     * How long a node may serve a cached shard-map entry;
+     * a move waits this long before copying so every node sees it
+     */
+    private long directoryCacheTtlMs = 30000;
+
+    private long directoryCacheSize = 100000;
+
+    private int poolSize = 10;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private boolean draining = false;
+    }
+}
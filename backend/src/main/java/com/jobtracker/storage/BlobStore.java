@@ -0,0 +1,66 @@
+package com.jobtracker.storage;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * BlobStore
+ * Immutable binary objects addressed by key
+ *
+ * Shaped after S3 object operations (PutObject, HeadObject, ranged
+ * GetObject, DeleteObject, ListObjects) so an S3-compatible store can
+ * replace FileSystemBlobStore without changes elsewhere. Callers use the
+ * content hash as the key, so a key always names the same bytes.
+ */
+public interface BlobStore {
+
+    /**
+     * New empty local file to stage an upload in before putIfAbsent
+     */
+    Path createStagingFile() throws IOException;
+
+    /**
+     * Store a file that was staged locally, unless the key exists already
+     * The staged file is consumed either way. An existing blob has its
+     * modification time refreshed, so garbage collection leaves it alone.
+     *
+     * @return true if the blob was written, false if it was already there
+     */
+    boolean putIfAbsent(String key, Path staged) throws IOException;
+
+    /**
+     * Size of a blob in bytes, or -1 if there is none
+     */
+    long size(String key) throws IOException;
+
+    /**
+     * Copy length bytes of a blob, starting at offset, to the target
+     */
+    void read(String key, long offset, long length, WritableByteChannel target) throws IOException;
+
+    /**
+     * File backing a blob, for stores on the local disk, so the servlet
+     * container can send it without copying it through the JVM
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * Visit the keys of blobs last written before the given time
+     */
+    void forEachOlderThan(Instant before, Consumer<String> action) throws IOException;
+
+    /**
+     * Delete a blob if it was last written before the given time
+     * Atomic with respect to putIfAbsent: a blob it refreshes or stores at
+     * the same moment is never lost.
+     *
+     * @return true if it was deleted
+     */
+    boolean deleteIfOlderThan(String key, Instant before) throws IOException;
+}
@@ -0,0 +1,179 @@
+package com.jobtracker.storage;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * FileSystemBlobStore
+ * BlobStore on a local (or mounted) directory; also the local stand-in for an S3 bucket
+ *
+ * A blob "abcdef..." is stored as root/ab/cd/abcdef..., so no directory
+ * grows too large. Files are moved into place with an atomic rename from a
+ * staging directory on the same file system, so readers never see a
+ * partial blob. Reads use FileChannel.transferTo, which the OS can turn
+ * into a kernel-side copy.
+ *
+ * Deletion first renames the blob into a trash directory, so a concurrent
+ * putIfAbsent either touched it before (seen when its age is checked again
+ * in the trash, and it is moved back) or finds it gone and stores it anew.
+ * Blobs left in the trash by a crash are moved back on startup.
+ */
+@Component
+@ConditionalOnProperty(name = "blob-store.type", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}");
+
+    @Value("${blob-store.root:data/blobs}")
+    private String rootDirectory;
+
+    private Path root;
+    private Path staging;
+    private Path trash;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(rootDirectory).toAbsolutePath();
+        staging = root.resolve(".staging");
+        trash = root.resolve(".trash");
+        Files.createDirectories(staging);
+        Files.createDirectories(trash);
+        restoreTrash();
+    }
+
+    @Override
+    public Path createStagingFile() throws IOException {
+        return Files.createTempFile(staging, "upload-", ".tmp");
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, Path staged) throws IOException {
+        Path target = pathOf(key);
+        try {
+            // Touch rather than check first, so a blob being collected right now is stored again
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return false;
+        } catch (NoSuchFileException e) {
+            Files.createDirectories(target.getParent());
+            Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        try {
+            return Files.size(pathOf(key));
+        } catch (NoSuchFileException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void read(String key, long offset, long length, WritableByteChannel target) throws IOException {
+        try (FileChannel file = FileChannel.open(pathOf(key), StandardOpenOption.READ)) {
+            long position = offset;
+            long end = offset + length;
+            // transferTo may send fewer bytes than asked for
+            while (position < end) {
+                long sent = file.transferTo(position, end - position, target);
+                if (sent <= 0) {
+                    throw new IOException("Blob " + key + " ended at " + position + " of " + end);
+                }
+                position += sent;
+            }
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(pathOf(key));
+    }
+
+    @Override
+    public void forEachOlderThan(Instant before, Consumer<String> action) throws IOException {
+        try (Stream<Path> files = Files.find(root, 3, (path, attributes) -> attributes.isRegularFile()
+                && KEY.matcher(path.getFileName().toString()).matches()
+                && attributes.lastModifiedTime().toInstant().isBefore(before))) {
+            files.forEach(path -> action.accept(path.getFileName().toString()));
+        }
+    }
+
+    @Override
+    public boolean deleteIfOlderThan(String key, Instant before) throws IOException {
+        Path path = pathOf(key);
+        Path tombstone = trash.resolve(key + "-" + UUID.randomUUID());
+        try {
+            if (!isOlderThan(path, before)) {
+                return false;
+            }
+            Files.move(path, tombstone, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+
+        // Touched by putIfAbsent between the check and the move: put it back
+        if (!isOlderThan(tombstone, before)) {
+            restore(key, tombstone);
+            return false;
+        }
+        Files.delete(tombstone);
+        return true;
+    }
+
+    private static boolean isOlderThan(Path path, Instant before) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return attributes.lastModifiedTime().toInstant().isBefore(before);
+    }
+
+    private void restore(String key, Path tombstone) throws IOException {
+        Path path = pathOf(key);
+        if (Files.exists(path)) {
+            // Stored again meanwhile; same key, same bytes
+            Files.delete(tombstone);
+            return;
+        }
+        Files.createDirectories(path.getParent());
+        Files.move(tombstone, path, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void restoreTrash() throws IOException {
+        try (Stream<Path> tombstones = Files.list(trash)) {
+            for (Path tombstone : tombstones.toList()) {
+                String key = tombstone.getFileName().toString();
+                if (key.length() > 64 && KEY.matcher(key.substring(0, 64)).matches()) {
+                    restore(key.substring(0, 64), tombstone);
+                }
+            }
+        }
+    }
+
+    private Path pathOf(String key) {
+        if (!KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Not a blob key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+}
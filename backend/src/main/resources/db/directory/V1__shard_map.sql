@@ -0,0 +1,16 @@
+-- Shard map: which shard each user lives on. Only created on the first
+-- (directory) shard, with its own history table (flyway_directory_history).
+-- Kept to portable SQL so it also runs on embedded databases.
+
+CREATE TABLE shard_map (
+    user_id BIGINT NOT NULL,
+    username VARCHAR(20) NOT NULL,
+    email VARCHAR(50) NOT NULL,
+    shard VARCHAR(50) NOT NULL,
+    moving BOOLEAN DEFAULT FALSE NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_shard_map_username UNIQUE (username),
+    CONSTRAINT uk_shard_map_email UNIQUE (email)
+);
+
+CREATE INDEX idx_shard_map_shard ON shard_map (shard);
@@ -0,0 +1,17 @@
+-- File attachments (résumés, cover letters) of applications
+-- Only metadata lives here; the content is in the blob store, keyed by its
+-- SHA-256, so identical files are stored once
+
+CREATE TABLE attachments (
+    id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    application_id BIGINT NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    content_hash CHAR(64) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_attachments_application (application_id),
+    INDEX idx_attachments_content_hash (content_hash)
+) ENGINE = InnoDB;
@@ -0,0 +1,24 @@
+-- Long-form text of applications (notes, later e.g. job descriptions) moves
+-- out of job_applications into a side table keyed by (application, field),
+-- so list queries read only the short columns. Content is stored as bytes,
+-- DEFLATE-compressed when that makes it smaller (see encoding).
+--
+-- Existing notes are copied over in chunks by V11_1__BackfillApplicationTexts.
+-- The notes column stays, unused, and is dropped in a later release, so
+-- this release neither rewrites job_applications nor loses data if rolled back.
+
+CREATE TABLE application_texts (
+    application_id BIGINT NOT NULL,
+    field VARCHAR(32) NOT NULL,
+    user_id BIGINT NOT NULL,
+    encoding VARCHAR(16) NOT NULL,
+    content MEDIUMBLOB NOT NULL,
+    length INT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (application_id, field),
+    INDEX idx_application_texts_user (user_id)
+) ENGINE = InnoDB;
+
+ALTER TABLE job_applications
+    ADD COLUMN has_notes BIT NOT NULL DEFAULT 0,
+    ALGORITHM = INPLACE, LOCK = NONE;
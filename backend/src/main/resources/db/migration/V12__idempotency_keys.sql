@@ -0,0 +1,14 @@
+-- Responses of writes sent with an Idempotency-Key header, so a retried
+-- request is answered from here instead of being run again. Rows live on
+-- the user's shard and are purged once expired.
+
+CREATE TABLE idempotency_keys (
+    user_id BIGINT NOT NULL,
+    idempotency_key VARCHAR(64) NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    response_body MEDIUMTEXT,
+    created_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key),
+    INDEX idx_idempotency_keys_expires (expires_at)
+) ENGINE = InnoDB;
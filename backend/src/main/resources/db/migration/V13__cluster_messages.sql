@@ -0,0 +1,12 @@
+-- Invalidation messages between backend nodes (cluster.channel=jdbc).
+-- Only the directory shard's copy is used; rows are kept for a minute.
+
+CREATE TABLE cluster_messages (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    origin VARCHAR(64) NOT NULL,
+    topic VARCHAR(32) NOT NULL,
+    message_key VARCHAR(255) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_cluster_messages_created (created_at)
+) ENGINE = InnoDB;
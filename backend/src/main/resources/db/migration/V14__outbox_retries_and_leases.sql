@@ -0,0 +1,19 @@
+-- Outbox delivery bookkeeping: failed attempts per row, and when a row was
+-- given up on (dead-lettered) after outbox.max-attempts. Dead-lettered rows
+-- are skipped by the relay and kept for inspection.
+-- job_leases lets one node at a time run a cluster-wide job such as the
+-- outbox relay; only the directory shard's copy is used.
+
+ALTER TABLE application_outbox
+    ADD COLUMN attempts INT NOT NULL DEFAULT 0,
+    ADD COLUMN last_error VARCHAR(255),
+    ADD COLUMN dead_lettered_at DATETIME(6),
+    ADD INDEX idx_application_outbox_pending (dead_lettered_at, id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+CREATE TABLE job_leases (
+    name VARCHAR(64) NOT NULL,
+    owner VARCHAR(64) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
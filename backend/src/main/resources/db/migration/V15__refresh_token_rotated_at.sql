@@ -0,0 +1,8 @@
+-- When a refresh token was rotated (replaced by a newer one) rather than
+-- logged out. A rotated token presented again within
+-- jwt.refresh-reuse-grace-ms is a concurrent refresh from another tab of
+-- the same session, not a stolen copy.
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN rotated_at DATETIME(6),
+    ALGORITHM = INPLACE, LOCK = NONE;
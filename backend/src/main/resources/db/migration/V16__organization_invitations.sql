@@ -0,0 +1,16 @@
+-- Invitations to join an organisation. A user becomes a member, and their
+-- applications visible to the organisation's admins, only by accepting
+-- one. Only used on the directory shard, like the other organisation tables.
+
+CREATE TABLE organization_invitations (
+    id BIGINT NOT NULL,
+    organization_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    username VARCHAR(20) NOT NULL,
+    member_role ENUM ('ADMIN', 'MEMBER') NOT NULL,
+    invited_by BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE INDEX uk_organization_invitations_org_user (organization_id, user_id),
+    INDEX idx_organization_invitations_user (user_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- Highest second each sharding.node-id has reserved for ShardSafeIdGenerator.
+-- A restarted node continues after it, so it cannot reissue ids from seconds
+-- it borrowed ahead or that its clock returns to. Only the directory shard's
+-- copy is used, like job_leases.
+
+CREATE TABLE id_watermarks (
+    node_id INT NOT NULL,
+    reserved_second BIGINT NOT NULL,
+    PRIMARY KEY (node_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,48 @@
+-- Baseline: the schema Hibernate generated (ddl-auto=update) for the original
+-- User, Role and JobApplication mappings. Existing databases are baselined at
+-- this version (spring.flyway.baseline-on-migrate) and skip this script.
+
+CREATE TABLE roles (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM ('ROLE_USER', 'ROLE_ADMIN') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(20) NOT NULL,
+    email VARCHAR(50) NOT NULL,
+    password VARCHAR(120) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE job_applications (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    company VARCHAR(100) NOT NULL,
+    role VARCHAR(100) NOT NULL,
+    status ENUM ('APPLIED', 'INTERVIEW', 'OFFER', 'REJECTED') NOT NULL,
+    date_applied DATE NOT NULL,
+    notes TEXT,
+    user_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    deleted BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_job_applications_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- Previously inserted by hand (see README)
+INSERT INTO roles (name) VALUES ('ROLE_USER'), ('ROLE_ADMIN');
@@ -0,0 +1,26 @@
+-- Follow-up reminders and the application change outbox
+
+ALTER TABLE job_applications
+    ADD COLUMN next_reminder_at DATETIME(6),
+    ADD INDEX idx_job_applications_next_reminder (next_reminder_at);
+
+CREATE TABLE reminders (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    application_id BIGINT NOT NULL,
+    message VARCHAR(255) NOT NULL,
+    dismissed BIT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_reminders_user_dismissed (user_id, dismissed)
+) ENGINE = InnoDB;
+
+CREATE TABLE application_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    application_id BIGINT NOT NULL,
+    event_type ENUM ('CREATED', 'UPDATED', 'DELETED') NOT NULL,
+    payload TEXT,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
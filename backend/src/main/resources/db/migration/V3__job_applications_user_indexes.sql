@@ -0,0 +1,10 @@
+-- Composite indexes for the per-user list, status filter and count queries
+-- (all filter on user_id and deleted first).
+-- ALGORITHM=INPLACE, LOCK=NONE builds them online: reads and writes continue
+-- during the build, and MySQL rejects the statement rather than falling back
+-- to a locking table copy.
+
+ALTER TABLE job_applications
+    ADD INDEX idx_job_applications_user_status (user_id, deleted, status),
+    ADD INDEX idx_job_applications_user_date (user_id, deleted, date_applied),
+    ALGORITHM = INPLACE, LOCK = NONE;
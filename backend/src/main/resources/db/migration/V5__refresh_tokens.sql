@@ -0,0 +1,15 @@
+-- Rotating refresh tokens (only a SHA-256 of each token is stored)
+
+CREATE TABLE refresh_tokens (
+    id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    token_hash CHAR(64) NOT NULL,
+    family_id CHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    revoked BIT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE INDEX uk_refresh_tokens_hash (token_hash),
+    INDEX idx_refresh_tokens_family (family_id),
+    INDEX idx_refresh_tokens_user (user_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,5 @@
+-- Per-user index for the updatedAt range filter and sort, built online like V3
+
+ALTER TABLE job_applications
+    ADD INDEX idx_job_applications_user_updated (user_id, deleted, updated_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,9 @@
+-- Duplicate detection: normalized (company, role) key per application, and
+-- the application a row duplicates as found by the nightly scan.
+-- dedupe_key is filled for existing rows by V8; both columns stay NULL-able.
+
+ALTER TABLE job_applications
+    ADD COLUMN dedupe_key CHAR(64),
+    ADD COLUMN duplicate_of BIGINT,
+    ADD INDEX idx_job_applications_user_dedupe (user_id, deleted, dedupe_key),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,28 @@
+-- Organisations (tenants) and their members, with per-member status rollups
+-- Only used on the directory shard (the first one); created everywhere so
+-- every shard has the same schema
+
+CREATE TABLE organizations (
+    id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    max_concurrent_requests INT,
+    requests_per_second INT,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE organization_members (
+    user_id BIGINT NOT NULL,
+    organization_id BIGINT NOT NULL,
+    username VARCHAR(20) NOT NULL,
+    member_role ENUM ('ADMIN', 'MEMBER') NOT NULL,
+    applied BIGINT NOT NULL DEFAULT 0,
+    interview BIGINT NOT NULL DEFAULT 0,
+    offer BIGINT NOT NULL DEFAULT 0,
+    rejected BIGINT NOT NULL DEFAULT 0,
+    total BIGINT NOT NULL DEFAULT 0,
+    stats_updated_at DATETIME(6),
+    joined_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id),
+    INDEX idx_organization_members_org_username (organization_id, username)
+) ENGINE = InnoDB;
@@ -0,0 +1,222 @@
+package com.jobtracker.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.JobTrackerApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ClusterInvalidationTest
+ * Two backend nodes in one JVM on a shared MySQL database, joined by the
+ * loopback cluster channel, each with its own second-level cache manager
+ *
+ * Every check first makes the other node cache what is about to change,
+ * then writes through one node and reads through the other. Needs Docker;
+ * skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ClusterInvalidationTest {
+
+    private static final String PASSWORD = "clustertest123";
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final HttpClient client = HttpClient.newHttpClient();
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static URI a;
+    private static URI b;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode(1, "classpath:hibernate-cache.conf");
+        nodeB = startNode(2, "classpath:cluster-node-b.conf");
+        a = baseUri(nodeA);
+        b = baseUri(nodeB);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void userSignedUpOnOneNodeLogsInOnTheOther() throws Exception {
+        // B looks the user up (and misses) before they exist
+        assertThat(status(b, "POST", "/api/auth/login", null, credentials("late_user"))).isEqualTo(401);
+
+        signup(a, "late_user");
+
+        assertThat(status(b, "POST", "/api/auth/login", null, credentials("late_user"))).isEqualTo(200);
+    }
+
+    @Test
+    void applicationWrittenOnOneNodeIsReadOnTheOther() throws Exception {
+        String token = signupAndLogin("app_user");
+        long id = createApplication(a, token, "Google");
+        String path = "/api/applications/" + id;
+        cacheEverything(b, token, path);
+
+        send(a, "PUT", path, token, Map.of("company", "Stripe"));
+
+        assertThat(send(b, "GET", path, token, null).path("company").asText()).isEqualTo("Stripe");
+        assertThat(send(b, "GET", "/api/applications", token, null).path("content").get(0)
+                .path("company").asText()).isEqualTo("Stripe");
+
+        send(b, "PATCH", path, token, Map.of("role", "Platform Engineer"));
+
+        assertThat(send(a, "GET", path, token, null).path("role").asText()).isEqualTo("Platform Engineer");
+    }
+
+    @Test
+    void statisticsFollowWritesOnTheOtherNode() throws Exception {
+        String token = signupAndLogin("stats_user");
+        long id = createApplication(a, token, "Google");
+        cacheEverything(b, token, "/api/applications/" + id);
+
+        send(a, "PATCH", "/api/applications/" + id, token, Map.of("status", "INTERVIEW"));
+        createApplication(a, token, "Stripe");
+
+        JsonNode stats = send(b, "GET", "/api/applications/stats", token, null);
+        assertThat(stats.path("interview").asLong()).isEqualTo(1);
+        assertThat(stats.path("total").asLong()).isEqualTo(2);
+        assertThat(send(b, "GET", "/api/dashboard", token, null)
+                .path("applications").path("totalElements").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    void typeaheadFollowsRenamesOnTheOtherNode() throws Exception {
+        String token = signupAndLogin("suggest_user");
+        long id = createApplication(a, token, "Google");
+        assertThat(send(b, "GET", "/api/applications/suggest?prefix=goo", token, null)
+                .path("companies").toString()).contains("Google");
+
+        send(a, "PUT", "/api/applications/" + id, token, Map.of("company", "Stripe"));
+
+        JsonNode suggestions = send(b, "GET", "/api/applications/suggest?prefix=str", token, null);
+        assertThat(suggestions.path("companies").toString()).contains("Stripe");
+        assertThat(send(b, "GET", "/api/applications/suggest?prefix=goo", token, null)
+                .path("companies").toString()).doesNotContain("Google");
+    }
+
+    @Test
+    void tokenLoggedOutOnOneNodeIsRejectedByTheOther() throws Exception {
+        String token = signupAndLogin("logout_user");
+        assertThat(status(b, "GET", "/api/applications", token, null)).isEqualTo(200);
+
+        send(a, "POST", "/api/auth/logout", token, null);
+
+        assertThat(status(b, "GET", "/api/applications", token, null)).isEqualTo(401);
+    }
+
+    private static ConfigurableApplicationContext startNode(int node, String cacheUri) {
+        return new SpringApplication(JobTrackerApplication.class).run(
+                "--spring.datasource.url=" + mysql.getJdbcUrl(),
+                "--spring.datasource.username=" + mysql.getUsername(),
+                "--spring.datasource.password=" + mysql.getPassword(),
+                "--schema.migrate-on-startup=true",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--management.tracing.sampling.probability=0",
+                "--cluster.channel=loopback",
+                "--cluster.name=cluster-test",
+                "--cluster.node-id=node" + node,
+                // Distinct node bits in generated ids
+                "--sharding.node-id=" + node,
+                // One cache manager per node, as in separate processes
+                "--spring.jpa.properties.hibernate.javax.cache.uri=" + cacheUri);
+    }
+
+    private static URI baseUri(ConfigurableApplicationContext context) {
+        return URI.create("http://localhost:"
+                + context.getEnvironment().getRequiredProperty("local.server.port", Integer.class));
+    }
+
+    /**
+     * Read the application, the list, the statistics and the suggestions, so
+     * the node has all of them cached
+     */
+    private static void cacheEverything(URI node, String token, String path) throws Exception {
+        send(node, "GET", path, token, null);
+        send(node, "GET", "/api/applications", token, null);
+        send(node, "GET", "/api/applications/stats", token, null);
+        send(node, "GET", "/api/dashboard", token, null);
+        send(node, "GET", "/api/applications/suggest?prefix=goo", token, null);
+    }
+
+    private static String signupAndLogin(String username) throws Exception {
+        signup(a, username);
+        return send(a, "POST", "/api/auth/login", null, credentials(username)).path("token").asText();
+    }
+
+    private static void signup(URI node, String username) throws Exception {
+        send(node, "POST", "/api/auth/signup", null, Map.of(
+                "username", username, "email", username + "@cluster.test", "password", PASSWORD));
+    }
+
+    private static long createApplication(URI node, String token, String company) throws Exception {
+        return send(node, "POST", "/api/applications", token, Map.of(
+                "company", company,
+                "role", "Backend Engineer",
+                "status", "APPLIED",
+                "dateApplied", LocalDate.now().toString())).path("id").asLong();
+    }
+
+    private static Map<String, String> credentials(String username) {
+        return Map.of("username", username, "password", PASSWORD);
+    }
+
+    private static JsonNode send(URI base, String method, String path, String token, Object body)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(base, method, path, token, body),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode())
+                .as("%s %s: %s", method, path, response.body())
+                .isLessThan(300);
+        return response.body().isEmpty() ? mapper.nullNode() : mapper.readTree(response.body());
+    }
+
+    private static int status(URI base, String method, String path, String token, Object body)
+            throws IOException, InterruptedException {
+        return client.send(request(base, method, path, token, body), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    private static HttpRequest request(URI base, String method, String path, String token, Object body)
+            throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(base.resolve(path))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                .header("Content-Type", method.equals("PATCH") ? "application/merge-patch+json" : "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request.build();
+    }
+}
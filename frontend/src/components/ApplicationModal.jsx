@@ -1,5 +1,6 @@
 import { useState, useEffect } from "react";
 import { format } from "date-fns";
+import jobApplicationService from "../services/jobApplicationService";
 
 const ApplicationModal = ({ isOpen, onClose, onSave, application }) => {
   const [formData, setFormData] = useState({
@@ -31,7 +32,29 @@ const ApplicationModal = ({ isOpen, onClose, onSave, application }) => {
     }
   }, [application]);
 
+  // Typeahead from names used before: look up whichever field is being typed in
+  const [suggestions, setSuggestions] = useState({ companies: [], roles: [] });
+  const [typing, setTyping] = useState("");
+
+  useEffect(() => {
+    const prefix = typing ? formData[typing] : "";
+    if (!prefix) {
+      setSuggestions({ companies: [], roles: [] });
+      return;
+    }
+    const timer = setTimeout(() => {
+      jobApplicationService
+        .suggest(prefix)
+        .then(setSuggestions)
+        .catch(() => setSuggestions({ companies: [], roles: [] }));
+    }, 150);
+    return () => clearTimeout(timer);
+  }, [typing, formData.company, formData.role]);
+
   const handleChange = (e) => {
+    if (e.target.name === "company" || e.target.name === "role") {
+      setTyping(e.target.name);
+    }
     setFormData({
       ...formData,
       [e.target.name]: e.target.value,
@@ -71,9 +94,17 @@ const ApplicationModal = ({ isOpen, onClose, onSave, application }) => {
               required
               className="w-full px-3 py-2 border border-gray-300 rounded-md focus:outline-none focus:ring-2 focus:ring-indigo-500"
               placeholder="e.g., Google"
+              list="company-suggestions"
+              autoComplete="off"
               value={formData.company}
               onChange={handleChange}
             />
+            <datalist id="company-suggestions">
+              {typing === "company" &&
+                suggestions.companies.map((s) => (
+                  <option key={s.value} value={s.value} />
+                ))}
+            </datalist>
           </div>
 
           <div>
@@ -86,9 +117,17 @@ const ApplicationModal = ({ isOpen, onClose, onSave, application }) => {
               required
               className="w-full px-3 py-2 border border-gray-300 rounded-md focus:outline-none focus:ring-2 focus:ring-indigo-500"
               placeholder="e.g., Software Engineer"
+              list="role-suggestions"
+              autoComplete="off"
               value={formData.role}
               onChange={handleChange}
             />
+            <datalist id="role-suggestions">
+              {typing === "role" &&
+                suggestions.roles.map((s) => (
+                  <option key={s.value} value={s.value} />
+                ))}
+            </datalist>
           </div>
 
           <div>
@@ -1,40 +1,6 @@
-import { useEffect, useState } from "react";
-import jobApplicationService from "../services/jobApplicationService";
-import toast from "react-hot-toast";
-
-const StatisticsCards = () => {
-  const [stats, setStats] = useState({
-    total: 0,
-    applied: 0,
-    interview: 0,
-    offer: 0,
-    rejected: 0,
-  });
-  const [loading, setLoading] = useState(true);
-
-  useEffect(() => {
-    fetchStatistics();
-  }, []);
-
-  const fetchStatistics = async () => {
-    try {
-      const data = await jobApplicationService.getStatistics();
-      setStats(data);
-    } catch (error) {
-      console.error("Error fetching statistics:", error);
-      toast.error("Failed to load statistics");
-    } finally {
-      setLoading(false);
-    }
-  };
-
-  const cards = [
-    { label: "Total Applications", value: stats.total, color: "bg-blue-500" },
-    { label: "Applied", value: stats.applied, color: "bg-yellow-500" },
-    { label: "Interview", value: stats.interview, color: "bg-purple-500" },
-    { label: "Offers", value: stats.offer, color: "bg-green-500" },
-    { label: "Rejected", value: stats.rejected, color: "bg-red-500" },
-  ];
+// stats comes from the dashboard request; null while it is loading
+const StatisticsCards = ({ stats }) => {
+  const loading = !stats;
 
   if (loading) {
     return (
@@ -49,6 +15,14 @@ const StatisticsCards = () => {
     );
   }
 
+  const cards = [
+    { label: "Total Applications", value: stats.total, color: "bg-blue-500" },
+    { label: "Applied", value: stats.applied, color: "bg-yellow-500" },
+    { label: "Interview", value: stats.interview, color: "bg-purple-500" },
+    { label: "Offers", value: stats.offer, color: "bg-green-500" },
+    { label: "Rejected", value: stats.rejected, color: "bg-red-500" },
+  ];
+
   return (
     <div className="grid grid-cols-1 md:grid-cols-5 gap-4 mb-6">
       {cards.map((card, index) => (
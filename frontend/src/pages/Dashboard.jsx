@@ -19,13 +19,14 @@ const Dashboard = () => {
   const [statusFilter, setStatusFilter] = useState("");
   const [currentPage, setCurrentPage] = useState(0);
   const [totalPages, setTotalPages] = useState(0);
-  const [refreshStats, setRefreshStats] = useState(0);
+  const [stats, setStats] = useState(null);
 
   useEffect(() => {
     fetchApplications();
   }, [currentPage, searchTerm, statusFilter]);
 
-  const fetchApplications = async () => {
+  // withStats: also reload statistics when searching (after create/update/delete)
+  const fetchApplications = async (withStats = false) => {
     setLoading(true);
     try {
       const params = {
@@ -35,17 +36,25 @@ const Dashboard = () => {
         direction: "desc",
       };
 
-      if (searchTerm) {
-        params.keyword = searchTerm;
-      }
-
       if (statusFilter) {
         params.status = statusFilter;
       }
 
-      const response = await jobApplicationService.getAll(params);
-      setApplications(response.content);
-      setTotalPages(response.totalPages);
+      if (searchTerm) {
+        params.keyword = searchTerm;
+        const response = await jobApplicationService.getAll(params);
+        setApplications(response.content);
+        setTotalPages(response.totalPages);
+        if (withStats || !stats) {
+          setStats(await jobApplicationService.getStatistics());
+        }
+      } else {
+        // Page and statistics in one round-trip
+        const response = await jobApplicationService.getDashboard(params);
+        setApplications(response.applications.content);
+        setTotalPages(response.applications.totalPages);
+        setStats(response.stats);
+      }
     } catch (error) {
       console.error("Error fetching applications:", error);
       toast.error("Failed to load applications");
@@ -61,15 +70,26 @@ const Dashboard = () => {
         await jobApplicationService.update(editingApplication.id, formData);
         toast.success("Application updated successfully!");
       } else {
-        // Create new
-        await jobApplicationService.create(formData);
+        // Create new, confirming first if it repeats an existing application
+        try {
+          await jobApplicationService.create(formData);
+        } catch (error) {
+          if (error.response?.status !== 409 || !error.response.data?.existingId) {
+            throw error;
+          }
+          if (!window.confirm(
+            `You already have an application for ${formData.role} at ${formData.company}. Add another one?`
+          )) {
+            return;
+          }
+          await jobApplicationService.create(formData, true);
+        }
         toast.success("Application created successfully!");
       }
 
       setIsModalOpen(false);
       setEditingApplication(null);
-      fetchApplications();
-      setRefreshStats((prev) => prev + 1); // Trigger stats refresh
+      fetchApplications(true);
     } catch (error) {
       console.error("Error saving application:", error);
       const errorMessage =
@@ -78,7 +98,17 @@ const Dashboard = () => {
     }
   };
 
-  const handleEdit = (application) => {
+  const handleEdit = async (application) => {
+    // List rows leave out notes; load them before editing
+    if (application.hasNotes) {
+      try {
+        application = await jobApplicationService.getById(application.id);
+      } catch (error) {
+        console.error("Error loading application:", error);
+        toast.error("Failed to load application");
+        return;
+      }
+    }
     setEditingApplication(application);
     setIsModalOpen(true);
   };
@@ -91,8 +121,7 @@ const Dashboard = () => {
     try {
       await jobApplicationService.delete(id);
       toast.success("Application deleted successfully!");
-      fetchApplications();
-      setRefreshStats((prev) => prev + 1); // Trigger stats refresh
+      fetchApplications(true);
     } catch (error) {
       console.error("Error deleting application:", error);
       toast.error("Failed to delete application");
@@ -150,7 +179,7 @@ const Dashboard = () => {
       <main className="max-w-7xl mx-auto py-6 sm:px-6 lg:px-8">
         <div className="px-4 py-6 sm:px-0">
           {/* Statistics Cards */}
-          <StatisticsCards key={refreshStats} />
+          <StatisticsCards stats={stats} />
 
           {/* Filters and Actions */}
           <div className="mb-6 flex flex-col md:flex-row md:items-center md:justify-between space-y-4 md:space-y-0">
@@ -26,20 +26,68 @@ api.interceptors.request.use(
     }
 );
 
+//refresh the access token once, shared by all requests that got a 401 meanwhile
+let refreshPromise = null;
+
+const refreshWith = (refreshToken) => {
+    // another tab may have refreshed already: its tokens are in the shared storage
+    const current = localStorage.getItem('refreshToken');
+    if (current && current !== refreshToken) {
+        return Promise.resolve(localStorage.getItem('token'));
+    }
+    return axios.post(`${API_BASE_URL}/auth/refresh`, { refreshToken: current })
+        .then((response) => {
+            localStorage.setItem('token', response.data.token);
+            localStorage.setItem('refreshToken', response.data.refreshToken);
+            return response.data.token;
+        });
+};
+
+const refreshAccessToken = () => {
+    if (!refreshPromise) {
+        const refreshToken = localStorage.getItem('refreshToken');
+        //one refresh at a time across all tabs, where the browser supports it
+        refreshPromise = (navigator.locks
+                ? navigator.locks.request('jobtracker-token-refresh', () => refreshWith(refreshToken))
+                : refreshWith(refreshToken))
+            .finally(() => {
+                refreshPromise = null;
+            });
+    }
+    return refreshPromise;
+};
+
+const redirectToLogin = () => {
+    localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
+    localStorage.removeItem('user');
+    window.location.href = '/login';
+};
+
 //response interceptor to handle errors globally
 api.interceptors.response.use(
     (response) => {
         return response;
     },
-    (error) => {
+    async (error) => {
         if (error.response) {
+            const original = error.config;
             // Handle specific status codes
-            if (error.response.status === 401) {
+            if (error.response.status === 401 && !original._retried
+                    && !original.url.startsWith('/auth/') && localStorage.getItem('refreshToken')) {
+                // Access token expired, get a new one and retry once
+                original._retried = true;
+                try {
+                    const token = await refreshAccessToken();
+                    original.headers['Authorization'] = `Bearer ${token}`;
+                    return api(original);
+                } catch (refreshError) {
+                    redirectToLogin();
+                    return Promise.reject(refreshError);
+                }
+            } else if (error.response.status === 401) {
                 // Unauthorized, redirect to login
-               
-                localStorage.removeItem('token');
-                localStorage.removeItem('user'); 
-                window.location.href = '/login';
+                redirectToLogin();
             } else if (error.response.status === 403) {
                 // Forbidden, show an error message
                 alert('You do not have permission to perform this action.');
@@ -14,14 +14,22 @@ const authService = {
         if(response.data.token){
             //save token and user info to local storage
             localStorage.setItem('token', response.data.token);
+            localStorage.setItem('refreshToken', response.data.refreshToken);
             localStorage.setItem('user', JSON.stringify(response.data.user));
         }
         return response.data;
     },
 
-    //logout user
+    //logout user (revokes the session on the server; local state is cleared either way)
     logout: () => {
+        const token = localStorage.getItem('token');
+        const refreshToken = localStorage.getItem('refreshToken');
+        if (refreshToken) {
+            api.post('/auth/logout', { refreshToken }, { headers: { Authorization: `Bearer ${token}` } })
+                .catch(() => {});
+        }
         localStorage.removeItem('token');
+        localStorage.removeItem('refreshToken');
         localStorage.removeItem('user');
     },
 
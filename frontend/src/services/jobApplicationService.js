@@ -7,15 +7,30 @@ const jobApplicationService = {
     return response.data;
   },
 
+  // Get a page of applications and the statistics in one request (no keyword search)
+  getDashboard: async (params = {}) => {
+    const response = await api.get('/dashboard', { params });
+    return response.data;
+  },
+
+  // Company/role names used before that match a prefix (typeahead)
+  suggest: async (prefix, limit = 8) => {
+    const response = await api.get('/applications/suggest', { params: { prefix, limit } });
+    return response.data;
+  },
+
   // Get single application by ID
   getById: async (id) => {
     const response = await api.get(`/applications/${id}`);
     return response.data;
   },
 
-  // Create new application
-  create: async (applicationData) => {
-    const response = await api.post('/applications', applicationData);
+  // Create new application (409 with existingId if the company and role were
+  // already applied to, unless allowDuplicate is true)
+  create: async (applicationData, allowDuplicate = false) => {
+    const response = await api.post('/applications', applicationData, {
+      params: allowDuplicate ? { allowDuplicate } : undefined,
+    });
     return response.data;
   },
 
@@ -25,6 +40,13 @@ const jobApplicationService = {
     return response.data;
   },
 
+  // Partially update application (only the given fields, e.g. { status })
+  patch: async (id, changes) => {
+    await api.patch(`/applications/${id}`, changes, {
+      headers: { 'Content-Type': 'application/merge-patch+json' },
+    });
+  },
+
   // Delete application
   delete: async (id) => {
     const response = await api.delete(`/applications/${id}`);